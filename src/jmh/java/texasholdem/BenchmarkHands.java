@@ -0,0 +1,86 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible random inputs for the benchmarks.
+ *
+ * A skew of "NONE" deals uniformly random hands. Any {@link HandRanking} name as a skew makes half of the hands
+ * belong to that ranking (drawn from all hands of it), so rare combinations get measured as well.
+ */
+final class BenchmarkHands {
+
+    static final String NO_SKEW = "NONE";
+    private static final long SEED = 20240101L;
+
+    private static long[][] handsByRanking;
+
+    private BenchmarkHands() {
+    }
+
+    static long[] masks(int size, String skew) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] skewedHands = NO_SKEW.equals(skew) ? null : handsByRanking()[HandRanking.valueOf(skew).ordinal()];
+        long[] masks = new long[size];
+        for (int i = 0; i < size; i++) {
+            masks[i] = skewedHands != null && random.nextBoolean()
+                    ? skewedHands[random.nextInt(skewedHands.length)]
+                    : randomHand(random);
+        }
+        return masks;
+    }
+
+    static String[] texts(int size, String skew) {
+        long[] masks = masks(size, skew);
+        String[] texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            texts[i] = PackedHand.toString(masks[i]);
+        }
+        return texts;
+    }
+
+    static PokerHand[] pokerHands(int size, String skew) {
+        String[] texts = texts(size, skew);
+        PokerHand[] hands = new PokerHand[size];
+        for (int i = 0; i < size; i++) {
+            hands[i] = new PokerHand(texts[i]);
+        }
+        return hands;
+    }
+
+    private static long randomHand(SplittableRandom random) {
+        long hand = PackedHand.EMPTY;
+        while (PackedHand.size(hand) < HandParser.CARDS_IN_HAND) {
+            hand = PackedHand.add(hand, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+        }
+        return hand;
+    }
+
+    // Every 5-card hand grouped by ranking, so that skewed inputs can pick even the four royal flushes
+    private static synchronized long[][] handsByRanking() {
+        if (handsByRanking == null) {
+            LookupTableEvaluator evaluator = new LookupTableEvaluator();
+            List<List<Long>> groups = new ArrayList<>();
+            for (int i = 0; i < HandRanking.values().length; i++) {
+                groups.add(new ArrayList<>());
+            }
+            int deck = PackedCard.DECK_SIZE;
+            for (int a = 0; a < deck; a++)
+                for (int b = a + 1; b < deck; b++)
+                    for (int c = b + 1; c < deck; c++)
+                        for (int d = c + 1; d < deck; d++)
+                            for (int e = d + 1; e < deck; e++) {
+                                long hand = PackedHand.of(PackedCard.fromIndex(a), PackedCard.fromIndex(b),
+                                        PackedCard.fromIndex(c), PackedCard.fromIndex(d), PackedCard.fromIndex(e));
+                                groups.get(HandStrength.handRanking(evaluator.strength(hand)).ordinal()).add(hand);
+                            }
+            handsByRanking = new long[groups.size()][];
+            for (int i = 0; i < groups.size(); i++) {
+                handsByRanking[i] = groups.get(i).stream().mapToLong(Long::longValue).toArray();
+            }
+        }
+        return handsByRanking;
+    }
+}
@@ -0,0 +1,80 @@
+package texasholdem;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rates the same batch of seven-card hands per hand from packed masks and from the columns of
+ * {@link ColumnarHandEvaluator}, one hand at a time and with its Vector API kernel; the scores are per hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class ColumnarBenchmark {
+
+    private static final int HANDS = 64 * 1024;
+    private static final int CARDS = 7;
+    private static final long SEED = 20240101L;
+
+    private final SevenCardEvaluator sevenCardEvaluator = new SevenCardEvaluator();
+    private final ColumnarHandEvaluator scalar = new ColumnarHandEvaluator(null);
+    private final ColumnarHandEvaluator vectorized = ColumnarHandEvaluator.INSTANCE;
+    private long[] masks;
+    private int[][] columns;
+    private int[] strengths;
+    private byte[] categories;
+
+    @Setup
+    public void setUp() {
+        if (!vectorized.isVectorized()) {
+            throw new IllegalStateException("The Vector API kernel is unavailable: run with --add-modules jdk.incubator.vector on 256-bit vectors or wider.");
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        masks = new long[HANDS];
+        for (int i = 0; i < HANDS; i++) {
+            long hand = PackedHand.EMPTY;
+            while (PackedHand.size(hand) < CARDS) {
+                hand = PackedHand.add(hand, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+            }
+            masks[i] = hand;
+        }
+        columns = ColumnarHandEvaluator.toColumns(masks);
+        strengths = new int[HANDS];
+        categories = new byte[HANDS];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] perHand() {
+        for (int i = 0; i < HANDS; i++) {
+            strengths[i] = sevenCardEvaluator.strength(masks[i]);
+        }
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] columnarScalar() {
+        scalar.strengths(columns[0], columns[1], columns[2], columns[3], strengths, null, 0, HANDS);
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] columnarVector() {
+        vectorized.strengths(columns[0], columns[1], columns[2], columns[3], strengths, null, 0, HANDS);
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public byte[] columnarVectorWithCategories() {
+        vectorized.strengths(columns[0], columns[1], columns[2], columns[3], strengths, categories, 0, HANDS);
+        return categories;
+    }
+}
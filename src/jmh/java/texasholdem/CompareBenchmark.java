@@ -0,0 +1,37 @@
+package texasholdem;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CompareBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"NONE", "HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "SET", "STRAIGHT", "FLUSH",
+            "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    private String skew;
+
+    private final PokerHandComparator comparator = new PokerHandComparator();
+    private PokerHand[] hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hands = BenchmarkHands.pokerHands(size, skew);
+    }
+
+    @Benchmark
+    public int pokerHandComparator() {
+        int index = next;
+        next = next + 1 == size ? 0 : next + 1;
+        return comparator.compare(hands[index], hands[next]);
+    }
+}
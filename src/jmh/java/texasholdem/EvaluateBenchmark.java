@@ -0,0 +1,54 @@
+package texasholdem;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EvaluateBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"NONE", "HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "SET", "STRAIGHT", "FLUSH",
+            "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    private String skew;
+
+    private final PokerHandEvaluator pokerHandEvaluator = new PokerHandEvaluator();
+    private final LookupTableEvaluator lookupTableEvaluator = new LookupTableEvaluator();
+    private PokerHand[] hands;
+    private long[] masks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hands = BenchmarkHands.pokerHands(size, skew);
+        masks = BenchmarkHands.masks(size, skew);
+    }
+
+    @Benchmark
+    public Combination pokerHandEvaluator() {
+        return pokerHandEvaluator.evaluate(hands[nextIndex()]);
+    }
+
+    @Benchmark
+    public Combination lookupTableEvaluator() {
+        return lookupTableEvaluator.evaluate(hands[nextIndex()]);
+    }
+
+    @Benchmark
+    public int lookupTableStrength() {
+        return lookupTableEvaluator.strength(masks[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == size ? 0 : next + 1;
+        return index;
+    }
+}
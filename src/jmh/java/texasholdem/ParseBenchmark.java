@@ -0,0 +1,45 @@
+package texasholdem;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParseBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"NONE", "HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "SET", "STRAIGHT", "FLUSH",
+            "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    private String skew;
+
+    private String[] texts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        texts = BenchmarkHands.texts(size, skew);
+    }
+
+    @Benchmark
+    public PokerHand pokerHandConstructor() {
+        return new PokerHand(nextText());
+    }
+
+    @Benchmark
+    public long handParser() {
+        return HandParser.parse(nextText());
+    }
+
+    private String nextText() {
+        String text = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return text;
+    }
+}
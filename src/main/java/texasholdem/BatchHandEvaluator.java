@@ -0,0 +1,139 @@
+package texasholdem;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Evaluates many hands at once on a {@link ForkJoinPool}.
+ *
+ * The input is split in halves until a part holds no more than the threshold number of hands,
+ * and every part is evaluated on one worker without any shared state. A batch that is not larger
+ * than the threshold is evaluated on the calling thread, so small batches do not pay for the pool.
+ *
+ * The {@code strengthsOf} methods parse straight into a {@link PackedHand} and look the strength up
+ * in {@link LookupTableEvaluator}, so they allocate nothing but the result array.
+ *
+ * Instances have no mutable state and can be shared between threads.
+ */
+public class BatchHandEvaluator {
+
+    static final int DEFAULT_THRESHOLD = 4096;
+
+    private final HandEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public BatchHandEvaluator() {
+        this(PokerHandEvaluator.INSTANCE, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param evaluator The evaluator that builds the {@link Combination} of every {@link PokerHand}; it must be thread-safe.
+     * @param pool The pool that runs the parts of large batches.
+     * @param threshold The largest number of hands evaluated as one part.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public BatchHandEvaluator(HandEvaluator evaluator, ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.evaluator = evaluator;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param hands Hands in the format of {@link PokerHand#PokerHand(String)}.
+     * @return An unmodifiable list of the evaluated hands, in the order of the input.
+     * @throws IllegalArgumentException if any of the hands is invalid.
+     */
+    public List<PokerHand> evaluateAll(List<String> hands) {
+        return Collections.unmodifiableList(Arrays.asList(evaluateAll(hands.toArray(new String[0]))));
+    }
+
+    /**
+     * @param hands Hands in the format of {@link PokerHand#PokerHand(String)}.
+     * @return The evaluated hands, in the order of the input.
+     * @throws IllegalArgumentException if any of the hands is invalid.
+     */
+    public PokerHand[] evaluateAll(String[] hands) {
+        PokerHand[] result = new PokerHand[hands.length];
+        forEachIndex(hands.length, i -> result[i] = new PokerHand(hands[i], evaluator));
+        return result;
+    }
+
+    /**
+     * @param hands Hands in the format of {@link PokerHand#PokerHand(String)}.
+     * @return The strength of every hand (see {@link PokerHand#getStrength()}), in the order of the input.
+     * @throws IllegalArgumentException if any of the hands is invalid.
+     */
+    public int[] strengthsOf(List<? extends CharSequence> hands) {
+        return strengthsOf(hands.toArray(new CharSequence[0]));
+    }
+
+    /**
+     * @see #strengthsOf(List)
+     */
+    public int[] strengthsOf(CharSequence[] hands) {
+        int[] result = new int[hands.length];
+        forEachIndex(hands.length, i -> {
+            if (hands[i] == null) {
+                throw new IllegalArgumentException("Card combination cannot be null or empty.");
+            }
+            result[i] = LookupTableEvaluator.INSTANCE.strength(HandParser.parse(hands[i]));
+        });
+        return result;
+    }
+
+    /**
+     * @param hands The {@link PackedHand} of five cards of every hand.
+     * @return The strength of every hand, in the order of the input.
+     * @throws IllegalArgumentException if any of the hands does not hold exactly five cards.
+     */
+    public int[] strengthsOf(long[] hands) {
+        int[] result = new int[hands.length];
+        forEachIndex(hands.length, i -> result[i] = LookupTableEvaluator.INSTANCE.strength(hands[i]));
+        return result;
+    }
+
+    private void forEachIndex(int size, IntConsumer action) {
+        if (size <= threshold) {
+            for (int i = 0; i < size; i++) {
+                action.accept(i);
+            }
+        } else {
+            pool.invoke(new Part(action, 0, size));
+        }
+    }
+
+    private final class Part extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+
+        Part(IntConsumer action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Part(action, from, middle), new Part(action, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package texasholdem;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link HandEvaluator} that remembers the strengths computed by another evaluator.
+ *
+ * Entries are keyed by the suit-isomorphic representative of the hand (see {@link SuitCanonicalizer}),
+ * so a result is reused for every hand that differs only by suits. The cache is split into
+ * independently locked segments, each evicting its least recently used entry once full,
+ * so the total size never exceeds the given maximum. Hits and misses are counted with
+ * {@link LongAdder}s, which do not contend between threads.
+ *
+ * A hit rebuilds the {@link Combination} from the cached strength, as {@link LookupTableEvaluator} does.
+ */
+public class CachingHandEvaluator implements HandEvaluator {
+
+    private static final int SEGMENTS = 16;
+    private static final int CARDS_IN_HAND = 5;
+
+    private final HandEvaluator delegate;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param delegate The evaluator that computes the strengths missing from the cache.
+     * @param maximumSize The largest number of hands kept in the cache.
+     */
+    public CachingHandEvaluator(HandEvaluator delegate, int maximumSize) {
+        if (maximumSize < SEGMENTS) {
+            throw new IllegalArgumentException("Cache must hold at least " + SEGMENTS + " hands.");
+        }
+        this.delegate = delegate;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maximumSize / SEGMENTS);
+        }
+    }
+
+    @Override
+    public Combination evaluate(PokerHand pokerHand) {
+        long hand = PackedHand.of(pokerHand);
+        if (PackedHand.size(hand) != CARDS_IN_HAND) {
+            // A hand with a repeated card has no mask of its own
+            return delegate.evaluate(pokerHand);
+        }
+        long key = SuitCanonicalizer.canonical(hand);
+        Segment segment = segments[segmentOf(key)];
+        Integer strength = segment.get(key);
+        if (strength != null) {
+            hits.increment();
+            return LookupTableEvaluator.toCombination(strength, pokerHand.getCards());
+        }
+        misses.increment();
+        Combination combination = delegate.evaluate(pokerHand);
+        segment.put(key, combination.getStrength());
+        return combination;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The share of evaluations served from the cache, or 0 before the first evaluation.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private static int segmentOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> (Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS)));
+    }
+
+    private static final class Segment {
+
+        private final Map<Long, Integer> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Integer get(long key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(long key, int strength) {
+            entries.put(key, strength);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -9,6 +9,16 @@ import java.util.Objects;
  * but their natural ordering is determined only by the rank's weight.
  */
 public class Card implements Comparable<Card> {
+    private static final Card[] CARDS = new Card[CardRank.values().length * CardSuit.values().length];
+
+    static {
+        for (CardRank rank : CardRank.values()) {
+            for (CardSuit suit : CardSuit.values()) {
+                CARDS[indexOf(rank, suit)] = new Card(rank, suit);
+            }
+        }
+    }
+
     private final CardRank rank;
     private final CardSuit suit;
 
@@ -20,6 +30,32 @@ public class Card implements Comparable<Card> {
         this.suit = CardSuit.of(card.charAt(1));
     }
 
+    public Card(CardRank rank, CardSuit suit) {
+        this.rank = Objects.requireNonNull(rank, "Card rank cannot be null.");
+        this.suit = Objects.requireNonNull(suit, "Card suit cannot be null.");
+    }
+
+    /**
+     * Returns the shared instance of the card; there are only 52 of them, so parsing does not need to allocate.
+     */
+    public static Card of(CardRank rank, CardSuit suit) {
+        return CARDS[indexOf(rank, suit)];
+    }
+
+    /**
+     * Parses a two-letter card (e.g. "KS") into its shared instance.
+     */
+    public static Card of(String card) {
+        if (card.length() != 2) {
+            throw new IllegalArgumentException("Invalid card format: " + card + ". Each card must be 2 characters long.");
+        }
+        return of(CardRank.of(card.charAt(0)), CardSuit.of(card.charAt(1)));
+    }
+
+    private static int indexOf(CardRank rank, CardSuit suit) {
+        return suit.ordinal() * CardRank.values().length + rank.ordinal();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,7 +1,5 @@
 package texasholdem;
 
-import java.util.Arrays;
-
 public enum CardRank {
     TWO('2', 2),
     THREE('3', 3),
@@ -17,6 +15,14 @@ public enum CardRank {
     KING('K', 13),
     ACE('A', 14);
 
+    private static final CardRank[] BY_LETTER = new CardRank[128];
+
+    static {
+        for (CardRank rank : values()) {
+            BY_LETTER[rank.letter] = rank;
+        }
+    }
+
     private final char letter;
     private final int weight;
 
@@ -26,12 +32,11 @@ public enum CardRank {
     }
 
     public static CardRank of(char letter){
-        return Arrays.stream(CardRank.values())
-                .filter(e -> e.getLetter() == letter)
-                .findFirst()
-                .orElseThrow( () -> new IllegalArgumentException(
-                        "No card ranks with letter: " + letter
-                ));
+        CardRank rank = letter < BY_LETTER.length ? BY_LETTER[letter] : null;
+        if (rank == null) {
+            throw new IllegalArgumentException("No card ranks with letter: " + letter);
+        }
+        return rank;
     }
 
     public char getLetter() {
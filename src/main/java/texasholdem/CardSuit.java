@@ -1,13 +1,19 @@
 package texasholdem;
 
-import java.util.Arrays;
-
 public enum CardSuit {
     SPADES('S'),
     HEARTS('H'),
     DIAMONDS('D'),
     CLUBS('C');
 
+    private static final CardSuit[] BY_LETTER = new CardSuit[128];
+
+    static {
+        for (CardSuit suit : values()) {
+            BY_LETTER[suit.suit] = suit;
+        }
+    }
+
     private final char suit;
 
     CardSuit(char suit){
@@ -15,12 +21,11 @@ public enum CardSuit {
     }
 
     public static CardSuit of(char letter){
-        return Arrays.stream(CardSuit.values())
-                .filter(e -> e.getSuit() == letter)
-                .findFirst()
-                .orElseThrow( () -> new IllegalArgumentException(
-                        "No card suit with letter: " + letter
-                ));
+        CardSuit suit = letter < BY_LETTER.length ? BY_LETTER[letter] : null;
+        if (suit == null) {
+            throw new IllegalArgumentException("No card suit with letter: " + letter);
+        }
+        return suit;
     }
 
     public char getSuit() {
@@ -0,0 +1,123 @@
+package texasholdem;
+
+/**
+ * Rates large batches of hands held as columns of primitive values instead of objects: one column per suit,
+ * holding the 13-bit rank mask of that suit for every hand (see {@link PackedHand#suitRanks}).
+ *
+ * The columns are what {@link SevenCardEvaluator} works on internally, so each hand is rated straight from
+ * its four masks, with no object, no parsing and no unpacking per hand; a batch is one pass over five
+ * (or, with the categories, six) parallel arrays. To use several threads, give each of them its own range.
+ *
+ * Strengths are the packed strengths of {@link SevenCardEvaluator}, equal to {@link PokerHand#getStrength()}
+ * for five cards. The evaluator has no state and can be shared between threads.
+ *
+ * When the incubating Vector API is available ({@code --add-modules jdk.incubator.vector}) and its vectors hold
+ * at least 8 hands, whole vectors of hands are rated at once by a kernel compiled separately from the rest of the
+ * code; otherwise, and for the last hands of a batch that do not fill a vector, every hand is rated on its own.
+ */
+public class ColumnarHandEvaluator {
+
+    /** Holds nothing but the code: the columns are passed in on every call. */
+    public static final ColumnarHandEvaluator INSTANCE = new ColumnarHandEvaluator();
+
+    private static final String VECTOR_KERNEL = "texasholdem.VectorColumnKernel";
+    private static final int SUITS = CardSuit.values().length;
+    private static final int RANKS = CardRank.values().length;
+
+    private final Kernel kernel;
+
+    /**
+     * Rates whole vectors of hands of the columns at once.
+     */
+    interface Kernel {
+
+        /**
+         * Rates the hands of the columns from {@code from}, up to {@code to} at most.
+         *
+         * @return The index of the first hand not rated: {@code to}, the start of a tail shorter than a vector,
+         *         or the start of a vector holding an invalid hand.
+         */
+        int strengths(int[] spades, int[] hearts, int[] diamonds, int[] clubs, int[] strengths, int from, int to);
+    }
+
+    public ColumnarHandEvaluator() {
+        this(vectorKernel());
+    }
+
+    /**
+     * @param kernel Rates vectors of hands, or null to rate every hand on its own.
+     */
+    ColumnarHandEvaluator(Kernel kernel) {
+        this.kernel = kernel;
+    }
+
+    // The Vector API is an incubator module in Java 17 and later: without --add-modules jdk.incubator.vector, without
+    // the classes of the vector source set, or with vectors too narrow to pay off, loading the kernel fails and every
+    // hand is rated on its own
+    private static Kernel vectorKernel() {
+        try {
+            return (Kernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if vectors of hands are rated at once, false if every hand is rated on its own.
+     */
+    public boolean isVectorized() {
+        return kernel != null;
+    }
+
+    /**
+     * Splits packed hands into columns.
+     *
+     * @param hands The {@link PackedHand} of every hand.
+     * @return One column per suit, indexed by the ordinal of {@link CardSuit}.
+     */
+    public static int[][] toColumns(long[] hands) {
+        int[][] columns = new int[SUITS][hands.length];
+        for (int i = 0; i < hands.length; i++) {
+            for (int suit = 0; suit < SUITS; suit++) {
+                columns[suit][i] = PackedHand.suitRanks(hands[i], suit);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Rates the hands of the columns from {@code offset} to {@code offset + length}.
+     *
+     * @param strengths Receives the strength of every hand at the same index.
+     * @param categories Receives the ordinal of the {@link HandRanking} of every hand at the same index, or null if not needed.
+     * @throws IllegalArgumentException if any hand holds fewer than 5 or more than 7 cards, or ranks beyond the 13 bits;
+     *                                  the hands before it are rated and their categories filled.
+     */
+    public void strengths(int[] spades, int[] hearts, int[] diamonds, int[] clubs, int[] strengths, byte[] categories,
+                          int offset, int length) {
+        int from = offset;
+        if (kernel != null) {
+            from = kernel.strengths(spades, hearts, diamonds, clubs, strengths, offset, offset + length);
+            if (categories != null) {
+                for (int i = offset; i < from; i++) {
+                    categories[i] = (byte) HandStrength.rankingOrdinal(strengths[i]);
+                }
+            }
+        }
+        for (int i = from; i < offset + length; i++) {
+            int s = spades[i];
+            int h = hearts[i];
+            int d = diamonds[i];
+            int c = clubs[i];
+            int size = Integer.bitCount(s) + Integer.bitCount(h) + Integer.bitCount(d) + Integer.bitCount(c);
+            if (size < SevenCardEvaluator.MIN_CARDS || size > SevenCardEvaluator.MAX_CARDS || (s | h | d | c) >>> RANKS != 0) {
+                throw new IllegalArgumentException("Hand must contain from 5 to 7 cards.");
+            }
+            int strength = SevenCardEvaluator.strengthOf(s, h, d, c);
+            strengths[i] = strength;
+            if (categories != null) {
+                categories[i] = (byte) HandStrength.rankingOrdinal(strength);
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package texasholdem;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Combination {
     private final HandRanking handRanking;
@@ -11,6 +13,9 @@ public class Combination {
     // However, if both the combination and the highest card are identical,
     // the comparison will continue by the rank within the combination, and then by the rank of the kickers.
     private final Integer weight;
+    // The strength packs the combination weight, the ranks within the combination and the ranks of the kickers
+    // into one int (see HandStrength), so that any two hands are ordered by a single comparison
+    private final int strength;
     private final List<Card> combination;
     private final List<Card> kickers;
 
@@ -23,6 +28,17 @@ public class Combination {
                         .mapToInt(Card::getWeight)
                         .max()
                         .orElse(0);
+        this.strength = computeStrength();
+    }
+
+    private int computeStrength() {
+        int[] weights = Stream.concat(
+                        this.combination.stream().sorted(Comparator.reverseOrder()),
+                        kickers.stream())
+                .mapToInt(Card::getWeight)
+                .distinct()
+                .toArray();
+        return HandStrength.of(handRanking, weights);
     }
 
     private List<Card> filterCardsForHandCombination(List<Card> cards) {
@@ -54,6 +70,13 @@ public class Combination {
         return weight;
     }
 
+    /**
+     * @return A value that totally orders hands: the greater the strength, the stronger the hand.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
     public List<Card> getCombination() {
         return combination;
     }
@@ -0,0 +1,89 @@
+package texasholdem;
+
+import java.util.Arrays;
+
+/**
+ * Win, tie and lose frequencies of every player in a showdown, in the order the players were given.
+ *
+ * The equity of a player is the share of the pot they win on average: a win counts as 1
+ * and a tie between k players as 1/k. For sampled results the margin is the half-width of
+ * the 95% confidence interval of the equity; exact results have a margin of 0.
+ */
+public class EquityResult {
+
+    private final long trials;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] equities;
+    private final double[] margins;
+
+    EquityResult(long trials, long[] wins, long[] ties, double[] equities, double[] margins) {
+        this.trials = trials;
+        this.wins = wins;
+        this.ties = ties;
+        this.equities = equities;
+        this.margins = margins;
+    }
+
+    public int getPlayers() {
+        return equities.length;
+    }
+
+    /**
+     * @return The number of boards the result is based on (sampled or enumerated).
+     */
+    public long getTrials() {
+        return trials;
+    }
+
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    public long getTies(int player) {
+        return ties[player];
+    }
+
+    public long getLosses(int player) {
+        return trials - wins[player] - ties[player];
+    }
+
+    public double getWinProbability(int player) {
+        return (double) wins[player] / trials;
+    }
+
+    public double getTieProbability(int player) {
+        return (double) ties[player] / trials;
+    }
+
+    public double getLoseProbability(int player) {
+        return (double) getLosses(player) / trials;
+    }
+
+    public double getEquity(int player) {
+        return equities[player];
+    }
+
+    public double getMargin(int player) {
+        return margins[player];
+    }
+
+    public double getLowerBound(int player) {
+        return Math.max(0, equities[player] - margins[player]);
+    }
+
+    public double getUpperBound(int player) {
+        return Math.min(1, equities[player] + margins[player]);
+    }
+
+    @Override
+    public String toString() {
+        return "EquityResult{" +
+                "trials=" + trials +
+                ", wins=" + Arrays.toString(wins) +
+                ", ties=" + Arrays.toString(ties) +
+                ", equities=" + Arrays.toString(equities) +
+                ", margins=" + Arrays.toString(margins) +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package texasholdem;
+
+/**
+ * A showdown situation: the hole cards of every player and the board dealt so far.
+ * Holds the cards that are still in the deck and scores complete boards for equity calculations.
+ */
+final class EquitySpot {
+
+    static final int HOLE_CARDS = 2;
+    static final int BOARD_CARDS = 5;
+
+    private final long[] holeCards;
+    private final long board;
+    private final int[] deck;
+
+    EquitySpot(long[] holeCards, long board) {
+        if (holeCards.length < 2) {
+            throw new IllegalArgumentException("Equity requires at least 2 players.");
+        }
+        if (PackedHand.size(board) > BOARD_CARDS || !PackedHand.isValid(board)) {
+            throw new IllegalArgumentException("Board cannot contain more than 5 cards.");
+        }
+        long dealt = board;
+        for (long cards : holeCards) {
+            if (PackedHand.size(cards) != HOLE_CARDS || !PackedHand.isValid(cards)) {
+                throw new IllegalArgumentException("Every player must have exactly 2 hole cards.");
+            }
+            if ((dealt & cards) != 0) {
+                throw new IllegalArgumentException("The same card cannot be dealt twice: " + PackedHand.toString(dealt & cards));
+            }
+            dealt |= cards;
+        }
+        this.holeCards = holeCards.clone();
+        this.board = board;
+        this.deck = new int[PackedCard.DECK_SIZE - PackedHand.size(dealt)];
+        int position = 0;
+        for (int index = 0; index < PackedCard.DECK_SIZE; index++) {
+            int card = PackedCard.fromIndex(index);
+            if (!PackedHand.contains(dealt, card)) {
+                deck[position++] = card;
+            }
+        }
+    }
+
+    int players() {
+        return holeCards.length;
+    }
+
+    long board() {
+        return board;
+    }
+
+    int missingBoardCards() {
+        return BOARD_CARDS - PackedHand.size(board);
+    }
+
+    /**
+     * @return A copy of the cards that can still be dealt to the board.
+     */
+    int[] deck() {
+        return deck.clone();
+    }
+
+    /**
+     * Rates every player's best hand on a complete board and records the winners in the tally.
+     */
+    void showdown(long completeBoard, EquityTally tally) {
+        int[] strengths = tally.strengths();
+        int best = -1;
+        int winners = 0;
+        for (int player = 0; player < holeCards.length; player++) {
+            int strength = SevenCardEvaluator.strengthOf(holeCards[player] | completeBoard);
+            strengths[player] = strength;
+            if (strength > best) {
+                best = strength;
+                winners = 1;
+            } else if (strength == best) {
+                winners++;
+            }
+        }
+        tally.record(best, winners, 1);
+    }
+}
@@ -0,0 +1,100 @@
+package texasholdem;
+
+/**
+ * Mutable outcome counters for one worker of an equity calculation.
+ * Tallies are never shared between threads while counting; they are merged once the work is done.
+ */
+final class EquityTally {
+
+    // 95% two-sided normal quantile
+    private static final double Z_95 = 1.959964;
+
+    private final int[] strengths;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+    private final double[] squaredShares;
+    private long trials;
+
+    EquityTally(int players) {
+        this.strengths = new int[players];
+        this.wins = new long[players];
+        this.ties = new long[players];
+        this.shares = new double[players];
+        this.squaredShares = new double[players];
+    }
+
+    /**
+     * Scratch space for the strengths of the current showdown, read back by {@link #record}.
+     */
+    int[] strengths() {
+        return strengths;
+    }
+
+    /**
+     * Records a showdown whose strengths were written to {@link #strengths()}.
+     *
+     * @param best The strength of the winning hand.
+     * @param winners The number of players holding that strength.
+     * @param weight How many equally likely deals this showdown stands for.
+     */
+    void record(int best, int winners, long weight) {
+        double share = 1.0 / winners;
+        for (int player = 0; player < strengths.length; player++) {
+            if (strengths[player] == best) {
+                if (winners == 1) {
+                    wins[player] += weight;
+                } else {
+                    ties[player] += weight;
+                }
+                shares[player] += share * weight;
+                squaredShares[player] += share * share * weight;
+            }
+        }
+        trials += weight;
+    }
+
+    void merge(EquityTally other) {
+        for (int player = 0; player < strengths.length; player++) {
+            wins[player] += other.wins[player];
+            ties[player] += other.ties[player];
+            shares[player] += other.shares[player];
+            squaredShares[player] += other.squaredShares[player];
+        }
+        trials += other.trials;
+    }
+
+    long trials() {
+        return trials;
+    }
+
+    /**
+     * @return The half-width of the 95% confidence interval of the player's equity.
+     */
+    double margin(int player) {
+        if (trials < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double mean = shares[player] / trials;
+        double variance = Math.max(0, squaredShares[player] / trials - mean * mean);
+        return Z_95 * Math.sqrt(variance / trials);
+    }
+
+    double maxMargin() {
+        double max = 0;
+        for (int player = 0; player < strengths.length; player++) {
+            max = Math.max(max, margin(player));
+        }
+        return max;
+    }
+
+    EquityResult toResult(boolean exact) {
+        double[] equities = new double[strengths.length];
+        double[] margins = new double[strengths.length];
+        for (int player = 0; player < strengths.length; player++) {
+            equities[player] = trials == 0 ? 0 : shares[player] / trials;
+            margins[player] = exact ? 0 : margin(player);
+        }
+        return new EquityResult(trials, wins.clone(), ties.clone(), equities, margins);
+    }
+}
@@ -0,0 +1,85 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Computes the exact equity of every player by walking all the remaining boards.
+ *
+ * Boards are enumerated as combinations of the undealt cards in a fixed order and the space is
+ * partitioned by the first card added, one task per first card on a {@link ForkJoinPool};
+ * work stealing evens out the larger partitions of the lower cards.
+ * Within a task, boards are walked depth first, so each partial board mask is built once and
+ * shared by all the boards that extend it, and every complete board is rated for all players
+ * in a single pass.
+ *
+ * The cost is predictable: 990 boards from the flop, 1,712,304 boards preflop heads-up.
+ */
+public class ExactEquityCalculator {
+
+    private final ForkJoinPool pool;
+
+    public ExactEquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ExactEquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the exact equity of every player.
+     *
+     * @param holeCards The {@link PackedHand} of each player's two hole cards.
+     * @param board The {@link PackedHand} of the board dealt so far (0 to 5 cards).
+     * @return The {@link EquityResult}, with one trial per possible board.
+     * @throws IllegalArgumentException if the cards do not describe a valid showdown.
+     */
+    public EquityResult calculate(long[] holeCards, long board) {
+        EquitySpot spot = new EquitySpot(holeCards, board);
+        EquityTally total = new EquityTally(spot.players());
+        int missing = spot.missingBoardCards();
+        if (missing == 0) {
+            spot.showdown(board, total);
+            return total.toResult(true);
+        }
+        int[] deck = spot.deck();
+        List<ForkJoinTask<EquityTally>> partitions = new ArrayList<>();
+        for (int first = 0; first <= deck.length - missing; first++) {
+            int firstCard = first;
+            partitions.add(pool.submit(() -> {
+                EquityTally tally = new EquityTally(spot.players());
+                enumerate(spot, deck, firstCard + 1, missing - 1, PackedHand.add(board, deck[firstCard]), tally);
+                return tally;
+            }));
+        }
+        for (ForkJoinTask<EquityTally> partition : partitions) {
+            total.merge(partition.join());
+        }
+        return total.toResult(true);
+    }
+
+    /**
+     * Computes the exact equity on the calling thread, for callers that already run many spots in parallel.
+     *
+     * @see #calculate(long[], long)
+     */
+    static EquityResult calculateInCurrentThread(long[] holeCards, long board) {
+        EquitySpot spot = new EquitySpot(holeCards, board);
+        EquityTally tally = new EquityTally(spot.players());
+        enumerate(spot, spot.deck(), 0, spot.missingBoardCards(), board, tally);
+        return tally.toResult(true);
+    }
+
+    private static void enumerate(EquitySpot spot, int[] deck, int from, int missing, long board, EquityTally tally) {
+        if (missing == 0) {
+            spot.showdown(board, tally);
+            return;
+        }
+        for (int i = from; i <= deck.length - missing; i++) {
+            enumerate(spot, deck, i + 1, missing - 1, PackedHand.add(board, deck[i]), tally);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package texasholdem;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width binary format for hands and their strengths.
+ *
+ * A file starts with an 8-byte header: the magic number {@code "PKHB"} and the format version, both as big-endian ints.
+ * Every record that follows takes 8 bytes:
+ * - bytes 0 to 4 hold the five cards as {@link PackedCard} values, from the lowest card bit of the {@link PackedHand} to the highest;
+ * - bytes 5 to 7 hold the strength (see {@link HandStrength}), which never needs more than 24 bits, big-endian.
+ *
+ * A record is written and read as a single big-endian {@code long}, and the methods here work on
+ * {@link ByteBuffer}s without creating objects, so they can move records in bulk.
+ */
+public final class HandBinaryFormat {
+
+    public static final int MAGIC = 0x504B4842;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 2 * Integer.BYTES;
+    public static final int RECORD_BYTES = Long.BYTES;
+
+    private static final int CARDS = 5;
+    private static final int STRENGTH_BITS = 24;
+    private static final int STRENGTH_MASK = (1 << STRENGTH_BITS) - 1;
+    private static final int CARD_MASK = 0xFF;
+
+    private HandBinaryFormat() {
+    }
+
+    public static void putHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    /**
+     * @return true if the buffer holds the header of this format at its position, which is moved past the header.
+     */
+    public static boolean getHeader(ByteBuffer buffer) {
+        return buffer.getInt() == MAGIC && buffer.getInt() == VERSION;
+    }
+
+    /**
+     * @param hand The {@link PackedHand} of exactly five cards.
+     * @param strength The strength of the hand.
+     * @return The record as written by {@link #put}.
+     * @throws IllegalArgumentException if the hand does not hold five valid cards or the strength does not fit the record.
+     */
+    public static long encode(long hand, int strength) {
+        if (PackedHand.size(hand) != CARDS || !PackedHand.isValid(hand)) {
+            throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
+        }
+        if ((strength & ~STRENGTH_MASK) != 0) {
+            throw new IllegalArgumentException("Strength does not fit the record: " + strength);
+        }
+        long record = 0;
+        long remaining = hand;
+        while (remaining != 0) {
+            record = record << Byte.SIZE | Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return record << STRENGTH_BITS | strength;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the record, or {@link PackedHand#EMPTY} if the record does not hold five distinct valid cards.
+     */
+    public static long hand(long record) {
+        long hand = PackedHand.EMPTY;
+        for (int shift = STRENGTH_BITS; shift < Long.SIZE; shift += Byte.SIZE) {
+            int card = (int) (record >>> shift) & CARD_MASK;
+            if (card >= Long.SIZE || !PackedCard.isValid(card)) {
+                return PackedHand.EMPTY;
+            }
+            hand = PackedHand.add(hand, card);
+        }
+        return PackedHand.size(hand) == CARDS ? hand : PackedHand.EMPTY;
+    }
+
+    public static int strength(long record) {
+        return (int) record & STRENGTH_MASK;
+    }
+
+    /**
+     * Writes one record at the position of the buffer.
+     *
+     * @see #encode(long, int)
+     */
+    public static void put(ByteBuffer buffer, long hand, int strength) {
+        buffer.putLong(encode(hand, strength));
+    }
+
+    /**
+     * Writes {@code length} records at the position of the buffer, which must have room for all of them.
+     */
+    public static void put(ByteBuffer buffer, long[] hands, int[] strengths, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            buffer.putLong(encode(hands[i], strengths[i]));
+        }
+    }
+
+    /**
+     * Reads {@code length} records from the position of the buffer into the arrays.
+     *
+     * @return The number of records read before the first one that is not valid, which is {@code length} if all of them are.
+     */
+    public static int get(ByteBuffer buffer, long[] hands, int[] strengths, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            long record = buffer.getLong();
+            long hand = hand(record);
+            if (hand == PackedHand.EMPTY) {
+                return i;
+            }
+            hands[offset + i] = hand;
+            strengths[offset + i] = strength(record);
+        }
+        return length;
+    }
+}
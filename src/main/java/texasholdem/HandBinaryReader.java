@@ -0,0 +1,101 @@
+package texasholdem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads hands from a file in the {@link HandBinaryFormat}.
+ *
+ * The {@link FileChannel} is read into a direct buffer and records are decoded from it straight into
+ * the caller's arrays, so reading creates no objects. A reader is not thread-safe.
+ */
+public class HandBinaryReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long records;
+    private long read;
+
+    /**
+     * Opens the file and checks its header and size.
+     *
+     * @throws IOException if the file cannot be read, is not in the {@link HandBinaryFormat} or ends inside a record.
+     */
+    public HandBinaryReader(Path path) throws IOException {
+        this(path, HandBinaryWriter.DEFAULT_BUFFER_RECORDS);
+    }
+
+    HandBinaryReader(Path path, int bufferRecords) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HandBinaryFormat.HEADER_BYTES) {
+                throw new IOException("Not a binary hand file: " + path);
+            }
+            if ((size - HandBinaryFormat.HEADER_BYTES) % HandBinaryFormat.RECORD_BYTES != 0) {
+                throw new IOException("Binary hand file ends inside a record: " + path);
+            }
+            this.records = (size - HandBinaryFormat.HEADER_BYTES) / HandBinaryFormat.RECORD_BYTES;
+            this.buffer = ByteBuffer.allocateDirect(Math.max(bufferRecords * HandBinaryFormat.RECORD_BYTES,
+                    HandBinaryFormat.HEADER_BYTES));
+            buffer.limit(HandBinaryFormat.HEADER_BYTES);
+            fill();
+            if (!HandBinaryFormat.getHeader(buffer)) {
+                throw new IOException("Not a binary hand file: " + path);
+            }
+            buffer.clear().flip();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The number of records in the file.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Reads up to {@code length} hands and their strengths, starting at {@code offset} of both arrays.
+     *
+     * @return The number of hands read, or -1 if the end of the file is reached.
+     * @throws IOException if the file cannot be read or a record does not hold five distinct valid cards.
+     */
+    public int read(long[] hands, int[] strengths, int offset, int length) throws IOException {
+        if (read == records) {
+            return -1;
+        }
+        if (buffer.remaining() < HandBinaryFormat.RECORD_BYTES) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (records - read) * HandBinaryFormat.RECORD_BYTES));
+            fill();
+        }
+        int count = Math.min(length, buffer.remaining() / HandBinaryFormat.RECORD_BYTES);
+        int decoded = HandBinaryFormat.get(buffer, hands, strengths, offset, count);
+        if (decoded < count) {
+            throw new IOException("Corrupt record " + (read + decoded) + " in binary hand file.");
+        }
+        read += count;
+        return count;
+    }
+
+    private void fill() throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Binary hand file ended unexpectedly.");
+            }
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
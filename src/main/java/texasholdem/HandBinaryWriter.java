@@ -0,0 +1,105 @@
+package texasholdem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes hands to a file in the {@link HandBinaryFormat}.
+ *
+ * Records are collected in a direct buffer and written to the {@link FileChannel} whenever it is full,
+ * so writing a record creates no objects. A writer is not thread-safe.
+ */
+public class HandBinaryWriter implements Closeable {
+
+    static final int DEFAULT_BUFFER_RECORDS = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long records;
+
+    /**
+     * Creates the file, or truncates it if it exists, and writes the header.
+     */
+    public HandBinaryWriter(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_RECORDS);
+    }
+
+    HandBinaryWriter(Path path, int bufferRecords) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferRecords * HandBinaryFormat.RECORD_BYTES,
+                HandBinaryFormat.HEADER_BYTES));
+        HandBinaryFormat.putHeader(buffer);
+    }
+
+    /**
+     * Writes the hand with its strength computed by {@link LookupTableEvaluator}.
+     *
+     * @throws IllegalArgumentException if the hand does not hold five valid cards.
+     */
+    public void write(long hand) throws IOException {
+        write(hand, LookupTableEvaluator.INSTANCE.strength(hand));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the hand does not hold five valid cards.
+     * @see HandBinaryFormat#encode(long, int)
+     */
+    public void write(long hand, int strength) throws IOException {
+        long record = HandBinaryFormat.encode(hand, strength);
+        if (buffer.remaining() < HandBinaryFormat.RECORD_BYTES) {
+            flush();
+        }
+        buffer.putLong(record);
+        records++;
+    }
+
+    /**
+     * Writes {@code length} hands with their strengths, starting at {@code offset} of both arrays.
+     *
+     * @throws IllegalArgumentException if a hand does not hold five valid cards; the hands before it are written.
+     */
+    public void write(long[] hands, int[] strengths, int offset, int length) throws IOException {
+        int written = 0;
+        while (written < length) {
+            if (buffer.remaining() < HandBinaryFormat.RECORD_BYTES) {
+                flush();
+            }
+            int batch = Math.min(length - written, buffer.remaining() / HandBinaryFormat.RECORD_BYTES);
+            for (int i = offset + written; i < offset + written + batch; i++) {
+                buffer.putLong(HandBinaryFormat.encode(hands[i], strengths[i]));
+                records++;
+            }
+            written += batch;
+        }
+    }
+
+    /**
+     * @return The number of records written so far.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package texasholdem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Keeps a large number of five-card hands outside the Java heap, one column per field:
+ * the {@link PackedHand} of the cards (8 bytes), the strength (4 bytes) and the {@link HandRanking} ordinal (1 byte).
+ *
+ * At 13 bytes per hand, tens of millions of hands take a few hundred megabytes of native memory and leave
+ * nothing for the garbage collector to trace, where the same hands as {@link PokerHand} objects with their
+ * card lists and {@link Combination} take gigabytes of heap. The columns are direct buffers, or mapped regions
+ * of a file that keeps the hands between runs; the file starts with a header of {@value #HEADER_BYTES} bytes
+ * (the magic number {@code "PKHC"}, the format version, the capacity and the number of hands), followed by the columns.
+ *
+ * Hands are added at the end, rated as they are added, and can be sorted from the strongest in place.
+ * A store is not thread-safe.
+ */
+public final class HandColumnStore implements Closeable {
+
+    public static final int MAGIC = 0x504B4843;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 4 * Integer.BYTES;
+    public static final int BYTES_PER_HAND = Long.BYTES + Integer.BYTES + Byte.BYTES;
+    /** Every column is a single buffer, so the widest one must stay below 2 GB. */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private static final int SIZE_OFFSET = 3 * Integer.BYTES;
+    // Stands for the size in the header of a file whose cards column may hold sort keys
+    private static final int SORTING = -1;
+    private static final HandRanking[] HAND_RANKINGS = HandRanking.values();
+    private static final int CARDS = 5;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final LongBuffer cards;
+    private final IntBuffer strengths;
+    private final ByteBuffer categories;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] mappedColumns;
+    private int size;
+
+    private HandColumnStore(ByteBuffer cards, ByteBuffer strengths, ByteBuffer categories, int capacity, int size,
+                            FileChannel channel, MappedByteBuffer header) {
+        this.mappedColumns = channel == null ? null
+                : new MappedByteBuffer[]{(MappedByteBuffer) cards, (MappedByteBuffer) strengths, (MappedByteBuffer) categories};
+        this.cards = cards.asLongBuffer();
+        this.strengths = strengths.asIntBuffer();
+        this.categories = categories;
+        this.capacity = capacity;
+        this.size = size;
+        this.channel = channel;
+        this.header = header;
+    }
+
+    /**
+     * Creates an empty store in native memory, which is released once the store is no longer reachable.
+     *
+     * @throws IllegalArgumentException if the capacity is negative or above {@link #MAX_CAPACITY}.
+     */
+    public static HandColumnStore allocate(int capacity) {
+        checkCapacity(capacity);
+        return new HandColumnStore(ByteBuffer.allocateDirect(capacity * Long.BYTES), ByteBuffer.allocateDirect(capacity * Integer.BYTES),
+                ByteBuffer.allocateDirect(capacity), capacity, 0, null, null);
+    }
+
+    /**
+     * Creates an empty store backed by the file, truncating the file if it exists.
+     *
+     * @throws IllegalArgumentException if the capacity is negative or above {@link #MAX_CAPACITY}.
+     */
+    public static HandColumnStore create(Path path, int capacity) throws IOException {
+        checkCapacity(capacity);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            HandColumnStore store = map(channel, capacity, 0);
+            store.header.putInt(0, MAGIC).putInt(Integer.BYTES, VERSION).putInt(2 * Integer.BYTES, capacity);
+            store.flush();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a store written by {@link #create}, with the hands it held when it was last flushed.
+     *
+     * @throws IOException if the file cannot be read and written, is not a hand column store,
+     *                     or was not flushed after sorting.
+     */
+    public static HandColumnStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Reads the whole header unless the file is shorter
+            }
+            int capacity = header.getInt(2 * Integer.BYTES);
+            int size = header.getInt(SIZE_OFFSET);
+            if (!header.hasRemaining() && header.getInt(0) == MAGIC && size == SORTING) {
+                throw new IOException("Hand column store was not flushed after sorting: " + path);
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION
+                    || capacity < 0 || capacity > MAX_CAPACITY || size < 0 || size > capacity
+                    || channel.size() != HEADER_BYTES + (long) capacity * BYTES_PER_HAND) {
+                throw new IOException("Not a hand column store: " + path);
+            }
+            return map(channel, capacity, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static HandColumnStore map(FileChannel channel, int capacity, int size) throws IOException {
+        long cardsOffset = HEADER_BYTES;
+        long strengthsOffset = cardsOffset + (long) capacity * Long.BYTES;
+        long categoriesOffset = strengthsOffset + (long) capacity * Integer.BYTES;
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        return new HandColumnStore(channel.map(FileChannel.MapMode.READ_WRITE, cardsOffset, (long) capacity * Long.BYTES),
+                channel.map(FileChannel.MapMode.READ_WRITE, strengthsOffset, (long) capacity * Integer.BYTES),
+                channel.map(FileChannel.MapMode.READ_WRITE, categoriesOffset, capacity), capacity, size, channel, header);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be from 0 to " + MAX_CAPACITY + ".");
+        }
+    }
+
+    /**
+     * Parses and adds a hand in the format of {@link PokerHand#PokerHand(String)}.
+     *
+     * @return The index of the hand.
+     * @throws IllegalArgumentException if the text is not a hand of five distinct valid cards.
+     * @throws IllegalStateException if the store is full.
+     */
+    public int add(CharSequence hand) {
+        return add(HandParser.parse(hand));
+    }
+
+    /**
+     * Adds a five-card hand, rated with {@link LookupTableEvaluator}.
+     *
+     * @return The index of the hand.
+     * @throws IllegalArgumentException if the hand does not hold exactly five cards.
+     * @throws IllegalStateException if the store is full.
+     */
+    public int add(long hand) {
+        return add(hand, LookupTableEvaluator.INSTANCE.strength(hand));
+    }
+
+    /**
+     * Adds a five-card hand that is already rated, e.g. read with {@link HandBinaryReader}.
+     *
+     * @param strength Its strength (see {@link PokerHand#getStrength()}).
+     * @return The index of the hand.
+     * @throws IllegalArgumentException if the hand does not hold five valid cards.
+     * @throws IllegalStateException if the store is full.
+     */
+    public int add(long hand, int strength) {
+        if (PackedHand.size(hand) != CARDS || !PackedHand.isValid(hand)) {
+            throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
+        }
+        if (size == capacity) {
+            throw new IllegalStateException("Store is full: " + capacity + " hands.");
+        }
+        put(size, hand, strength);
+        return size++;
+    }
+
+    private void put(int index, long hand, int strength) {
+        cards.put(index, hand);
+        strengths.put(index, strength);
+        categories.put(index, (byte) HandStrength.handRanking(strength).ordinal());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the hand at the index.
+     */
+    public long hand(int index) {
+        return cards.get(Objects.checkIndex(index, size));
+    }
+
+    public int strength(int index) {
+        return strengths.get(Objects.checkIndex(index, size));
+    }
+
+    public HandRanking handRanking(int index) {
+        return HAND_RANKINGS[categories.get(Objects.checkIndex(index, size))];
+    }
+
+    /**
+     * @return The hand at the index as a lazy {@link PokerHand} (see {@link PokerHand#lazy(long)}).
+     */
+    public PokerHand pokerHand(int index) {
+        return PokerHand.lazy(hand(index));
+    }
+
+    /**
+     * @return The number of hands of the {@link HandRanking}, counted on the category column alone.
+     */
+    public int count(HandRanking handRanking) {
+        byte category = (byte) handRanking.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (categories.get(i) == category) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return A selector of the K strongest hands of the minimum {@link HandRanking} or better,
+     *         in the order of {@link TopHandSelector} for the hands in index order.
+     */
+    public TopHandSelector top(int k, HandRanking minimum) {
+        TopHandSelector selector = new TopHandSelector(k, minimum);
+        for (int i = 0; i < size; i++) {
+            selector.offer(cards.get(i), strengths.get(i));
+        }
+        return selector;
+    }
+
+    /**
+     * Sorts the hands in place from the strongest to the weakest; hands of equal strength are ordered by their cards.
+     *
+     * The cards column is first rewritten as {@link HandRecord} keys, which order by strength and then by cards,
+     * then sorted in place and decoded back into all three columns, so sorting allocates nothing on the heap.
+     * A file-backed store is marked as being sorted until the next {@link #flush()}, so a file left by a process
+     * that stopped in the middle of sorting is rejected by {@link #open} rather than read as hands.
+     */
+    public void sort() {
+        if (channel != null) {
+            header.putInt(SIZE_OFFSET, SORTING);
+            header.force();
+        }
+        for (int i = 0; i < size; i++) {
+            cards.put(i, toRecord(cards.get(i), strengths.get(i)));
+        }
+        sort(cards, 0, size);
+        for (int i = 0; i < size; i++) {
+            long record = cards.get(i);
+            put(i, HandRecord.hand(record), HandRecord.strength(record));
+        }
+    }
+
+    private static long toRecord(long hand, int strength) {
+        int card1 = PackedHand.firstCard(hand);
+        long rest = PackedHand.remove(hand, card1);
+        int card2 = PackedHand.firstCard(rest);
+        rest = PackedHand.remove(rest, card2);
+        int card3 = PackedHand.firstCard(rest);
+        rest = PackedHand.remove(rest, card3);
+        int card4 = PackedHand.firstCard(rest);
+        int card5 = PackedHand.firstCard(PackedHand.remove(rest, card4));
+        return HandRecord.of(strength, card1, card2, card3, card4, card5);
+    }
+
+    // Quicksort in ascending order, recursing into the smaller part only
+    private static void sort(LongBuffer keys, int from, int to) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            long pivot = median(keys.get(from), keys.get((from + to) >>> 1), keys.get(to - 1));
+            int i = from;
+            int j = to - 1;
+            while (i <= j) {
+                while (keys.get(i) < pivot) {
+                    i++;
+                }
+                while (keys.get(j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    long key = keys.get(i);
+                    keys.put(i++, keys.get(j));
+                    keys.put(j--, key);
+                }
+            }
+            if (j + 1 - from < to - i) {
+                sort(keys, from, j + 1);
+                from = i;
+            } else {
+                sort(keys, i, to);
+                to = j + 1;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            long key = keys.get(i);
+            int j = i - 1;
+            while (j >= from && keys.get(j) > key) {
+                keys.put(j + 1, keys.get(j));
+                j--;
+            }
+            keys.put(j + 1, key);
+        }
+    }
+
+    private static long median(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Writes the number of hands to the header and forces the columns to the file; does nothing for a store in memory.
+     */
+    public void flush() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        for (MappedByteBuffer column : mappedColumns) {
+            column.force();
+        }
+        header.putInt(SIZE_OFFSET, size);
+        header.force();
+    }
+
+    /**
+     * Flushes a file-backed store and closes its file. The mapped columns stay valid until they are garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package texasholdem;
+
+/**
+ * Determines the {@link Combination} formed by the five cards of a {@link PokerHand}.
+ *
+ * Implementations must produce the same {@link HandRanking}, combination cards and kickers
+ * for the same hand, so that {@link PokerHand} can be built with any of them interchangeably.
+ */
+public interface HandEvaluator {
+
+    /**
+     * Evaluates the poker hand and determines its highest-ranking combination.
+     *
+     * @param pokerHand The poker hand to evaluate
+     * @return A {@link Combination} object representing the highest-ranking combination.
+     */
+    Combination evaluate(PokerHand pokerHand);
+}
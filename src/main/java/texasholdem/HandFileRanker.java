@@ -0,0 +1,353 @@
+package texasholdem;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks a file of hands, one per line in the {@link PokerHand} input format, into a file
+ * with the same lines ordered from the strongest hand to the weakest.
+ *
+ * The input is split into one byte range per worker. Each worker memory-maps its range window by window,
+ * parses and rates every line into a {@link HandRecord}, and whenever its share of the in-memory budget
+ * is full, sorts the records and spills them to a temporary run file. The runs are then merged
+ * k-way into the output, so memory use depends on the budget, not on the size of the input.
+ *
+ * Lines may end with "\n" or "\r\n" and blank lines are skipped. Hands of equal strength come out
+ * ordered by their cards rather than by their position in the input.
+ */
+public class HandFileRanker {
+
+    static final int DEFAULT_RECORDS_IN_MEMORY = 16 * 1024 * 1024;
+    static final int DEFAULT_WINDOW_BYTES = 64 * 1024 * 1024;
+    private static final int MAX_LINE_BYTES = 256;
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+    // After a failure, the time left to the other workers to notice the interrupt and stop
+    private static final long WORKER_STOP_SECONDS = 60;
+
+    private final int parallelism;
+    private final int recordsInMemory;
+    private final Path tempDirectory;
+    private final int windowBytes;
+
+    public HandFileRanker() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_RECORDS_IN_MEMORY,
+                Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param parallelism The number of workers parsing and sorting the input.
+     * @param recordsInMemory The number of 8-byte records all workers may hold before spilling.
+     * @param tempDirectory The directory for the sorted runs; the run files are deleted once the output is written.
+     */
+    public HandFileRanker(int parallelism, int recordsInMemory, Path tempDirectory) {
+        this(parallelism, recordsInMemory, tempDirectory, DEFAULT_WINDOW_BYTES);
+    }
+
+    HandFileRanker(int parallelism, int recordsInMemory, Path tempDirectory, int windowBytes) {
+        if (parallelism < 1 || recordsInMemory < parallelism) {
+            throw new IllegalArgumentException("Every worker needs room for at least one record.");
+        }
+        this.parallelism = parallelism;
+        this.recordsInMemory = recordsInMemory;
+        this.tempDirectory = tempDirectory;
+        this.windowBytes = windowBytes;
+    }
+
+    /**
+     * Writes the hands of the input file to the output file from the strongest to the weakest.
+     *
+     * @return The number of hands ranked.
+     * @throws IllegalArgumentException if a line is not a valid hand.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public long rank(Path input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            long hands = sortRuns(input, runs);
+            mergeRuns(runs, output);
+            return hands;
+        } finally {
+            // Workers that did not stop in time may still be adding runs
+            List<Path> created;
+            synchronized (runs) {
+                created = new ArrayList<>(runs);
+            }
+            for (Path run : created) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private long sortRuns(Path input, List<Path> runs) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        long hands = 0;
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                long start = size * i / parallelism;
+                long end = size * (i + 1) / parallelism;
+                workers.add(executor.submit(() -> new RunWriter(recordsInMemory / parallelism, runs)
+                        .sortRange(channel, start, end)));
+            }
+            for (Future<Long> worker : workers) {
+                hands += join(worker);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                shutdown(executor);
+            } catch (IOException stopping) {
+                e.addSuppressed(stopping);
+            }
+            throw e;
+        }
+        shutdown(executor);
+        return hands;
+    }
+
+    // When a worker fails, the others may still be spilling; the runs can only be cleaned up once they all stopped
+    private static void shutdown(ExecutorService executor) throws IOException {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(WORKER_STOP_SECONDS, TimeUnit.SECONDS)) {
+                throw new IOException("Ranking workers did not stop within " + WORKER_STOP_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ranking was interrupted while its workers were stopping.", e);
+        }
+    }
+
+    private static long join(Future<Long> worker) throws IOException {
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ranking was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void mergeRuns(List<Path> runs, Path output) throws IOException {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> Long.compare(a.current, b.current));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), IO_BUFFER_BYTES)) {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                if (reader.advance()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            byte[] line = new byte[HandRecord.TEXT_LENGTH];
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                out.write(line, 0, HandRecord.writeLine(reader.current, line, 0));
+                if (reader.advance()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+        } finally {
+            for (RunReader reader : queue) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Parses one byte range of the input and spills its records as sorted runs.
+     * A line belongs to the range that holds its first byte.
+     */
+    private final class RunWriter {
+
+        private final long[] records;
+        private final List<Path> runs;
+        private final LookupTableEvaluator evaluator = LookupTableEvaluator.INSTANCE;
+        private int count;
+
+        RunWriter(int capacity, List<Path> runs) {
+            this.records = new long[capacity];
+            this.runs = runs;
+        }
+
+        long sortRange(FileChannel channel, long start, long end) {
+            try {
+                long hands = 0;
+                long position = start == 0 ? 0 : nextLineStart(channel, start);
+                while (position < end) {
+                    long windowSize = Math.min(windowBytes, channel.size() - position);
+                    MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                    int lineStart = 0;
+                    boolean lastWindow = position + windowSize == channel.size();
+                    while (position + lineStart < end) {
+                        int lineEnd = findLineEnd(window, lineStart);
+                        if (lineEnd < 0 && !lastWindow) {
+                            break;
+                        }
+                        int contentEnd = lineEnd < 0 ? window.limit() : lineEnd;
+                        if (contentEnd > lineStart && window.get(contentEnd - 1) == '\r') {
+                            contentEnd--;
+                        }
+                        if (contentEnd > lineStart) {
+                            add(window, lineStart, contentEnd - lineStart, position + lineStart);
+                            hands++;
+                        }
+                        if (lineEnd < 0) {
+                            lineStart = window.limit();
+                            break;
+                        }
+                        lineStart = lineEnd + 1;
+                    }
+                    if (lineStart == 0) {
+                        throw new IllegalArgumentException("Line at byte " + position + " is too long.");
+                    }
+                    position += lineStart;
+                }
+                spill();
+                return hands;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void add(ByteBuffer window, int offset, int length, long filePosition) throws IOException {
+            long hand;
+            try {
+                hand = HandParser.parse(window, offset, length);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid hand at byte " + filePosition + ": " + e.getMessage(), e);
+            }
+            records[count++] = HandRecord.of(evaluator.strength(hand),
+                    cardAt(window, offset), cardAt(window, offset + 3), cardAt(window, offset + 6),
+                    cardAt(window, offset + 9), cardAt(window, offset + 12));
+            if (count == records.length) {
+                spill();
+            }
+        }
+
+        private int cardAt(ByteBuffer window, int offset) {
+            return PackedCard.of(HandParser.rankIndex(window.get(offset)), HandParser.suitIndex(window.get(offset + 1)));
+        }
+
+        private void spill() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(records, 0, count);
+            Path run = Files.createTempFile(tempDirectory, "hands-", ".run");
+            synchronized (runs) {
+                runs.add(run);
+            }
+            try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+                for (int i = 0; i < count; i++) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        writeFully(channel, buffer);
+                    }
+                    buffer.putLong(records[i]);
+                }
+                writeFully(channel, buffer);
+            }
+            count = 0;
+        }
+
+        private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private int findLineEnd(ByteBuffer window, int from) {
+            int limit = Math.min(window.limit(), from + MAX_LINE_BYTES);
+            for (int i = from; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    return i;
+                }
+            }
+            if (limit < window.limit()) {
+                throw new IllegalArgumentException("Line is longer than " + MAX_LINE_BYTES + " bytes.");
+            }
+            return -1;
+        }
+
+        private long nextLineStart(FileChannel channel, long position) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(MAX_LINE_BYTES + 1);
+            channel.read(buffer, position - 1);
+            buffer.flip();
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i;
+                }
+            }
+            if (buffer.limit() <= MAX_LINE_BYTES) {
+                // The last line of the file started before this range
+                return channel.size();
+            }
+            throw new IllegalArgumentException("Line near byte " + position + " is longer than " + MAX_LINE_BYTES + " bytes.");
+        }
+    }
+
+    /**
+     * Reads the records of a sorted run sequentially through a small buffer.
+     */
+    private static final class RunReader {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+        private long current;
+
+        RunReader(Path run) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            buffer.flip();
+        }
+
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.compact();
+                int read = 0;
+                while (buffer.position() < Long.BYTES && read >= 0) {
+                    read = channel.read(buffer);
+                }
+                buffer.flip();
+                if (buffer.remaining() < Long.BYTES) {
+                    return false;
+                }
+            }
+            current = buffer.getLong();
+            return true;
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package texasholdem;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Optional instrumentation of evaluation, parsing and comparison.
+ *
+ * Nothing in the engine refers to this class: metrics are collected only by the evaluators and comparators
+ * returned from {@code instrument} and by {@link #parse(CharSequence)}, so code that does not use them pays nothing.
+ * Counters and {@link LatencyHistogram} buckets are {@link LongAdder}s, which keep recording threads
+ * off a shared cache line. The values are read with {@link #snapshot()} or through JMX after {@link #registerMBean(String)}.
+ */
+public class HandMetrics implements HandMetricsMXBean {
+
+    private static final HandRanking[] RANKINGS = HandRanking.values();
+
+    private final LongAdder[] rankingCounts = new LongAdder[RANKINGS.length];
+    private final LongAdder parseErrors = new LongAdder();
+    private final LatencyHistogram evaluateLatency = new LatencyHistogram();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram compareLatency = new LatencyHistogram();
+    private final List<CachingHandEvaluator> caches = new CopyOnWriteArrayList<>();
+
+    public HandMetrics() {
+        for (int i = 0; i < rankingCounts.length; i++) {
+            rankingCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return An evaluator that delegates to the given one and records the latency and the {@link HandRanking} of every call.
+     */
+    public HandEvaluator instrument(HandEvaluator evaluator) {
+        return pokerHand -> {
+            long start = System.nanoTime();
+            Combination combination = evaluator.evaluate(pokerHand);
+            evaluateLatency.record(System.nanoTime() - start);
+            rankingCounts[combination.getHandRanking().ordinal()].increment();
+            return combination;
+        };
+    }
+
+    /**
+     * @return A comparator that delegates to the given one and records the latency of every call.
+     */
+    public Comparator<PokerHand> instrument(Comparator<PokerHand> comparator) {
+        return (hand1, hand2) -> {
+            long start = System.nanoTime();
+            int result = comparator.compare(hand1, hand2);
+            compareLatency.record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    /**
+     * Parses a hand in lazy mode (see {@link PokerHand#lazy(CharSequence)}), recording the latency and any error.
+     *
+     * @throws IllegalArgumentException if the text is not a valid hand.
+     */
+    public PokerHand parse(CharSequence cardCombination) {
+        long start = System.nanoTime();
+        try {
+            return PokerHand.lazy(cardCombination);
+        } catch (IllegalArgumentException e) {
+            parseErrors.increment();
+            throw e;
+        } finally {
+            parseLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Adds the hits and misses of the cache to the metrics.
+     */
+    public void track(CachingHandEvaluator cache) {
+        caches.add(cache);
+    }
+
+    public MetricsSnapshot snapshot() {
+        EnumMap<HandRanking, Long> counts = new EnumMap<>(HandRanking.class);
+        for (HandRanking handRanking : RANKINGS) {
+            counts.put(handRanking, rankingCounts[handRanking.ordinal()].sum());
+        }
+        long hits = 0;
+        long misses = 0;
+        for (CachingHandEvaluator cache : caches) {
+            hits += cache.getHits();
+            misses += cache.getMisses();
+        }
+        return new MetricsSnapshot(counts, parseErrors.sum(), hits, misses,
+                evaluateLatency.snapshot(), parseLatency.snapshot(), compareLatency.snapshot());
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server as {@code texasholdem:type=HandMetrics,name=<name>}.
+     *
+     * @return The name the MBean is registered under.
+     * @throws JMException if the name is invalid or already taken.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("texasholdem:type=HandMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public long getEvaluations() {
+        return evaluateLatency.snapshot().getCount();
+    }
+
+    @Override
+    public long getComparisons() {
+        return compareLatency.snapshot().getCount();
+    }
+
+    @Override
+    public long getParses() {
+        return parseLatency.snapshot().getCount();
+    }
+
+    @Override
+    public long getParseErrors() {
+        return parseErrors.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return snapshot().getCacheHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return snapshot().getCacheMisses();
+    }
+
+    @Override
+    public double getCacheHitRate() {
+        return snapshot().getCacheHitRate();
+    }
+
+    @Override
+    public Map<String, Long> getRankingCounts() {
+        return snapshot().getRankingCounts().entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue));
+    }
+
+    @Override
+    public LatencySnapshot getEvaluateLatency() {
+        return evaluateLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getParseLatency() {
+        return parseLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getCompareLatency() {
+        return compareLatency.snapshot();
+    }
+}
@@ -0,0 +1,34 @@
+package texasholdem;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link HandMetrics}; every attribute is read from a fresh {@link HandMetrics#snapshot()}.
+ */
+public interface HandMetricsMXBean {
+
+    long getEvaluations();
+
+    long getComparisons();
+
+    long getParses();
+
+    long getParseErrors();
+
+    long getCacheHits();
+
+    long getCacheMisses();
+
+    double getCacheHitRate();
+
+    /**
+     * @return The number of evaluated hands by the name of their {@link HandRanking}.
+     */
+    Map<String, Long> getRankingCounts();
+
+    LatencySnapshot getEvaluateLatency();
+
+    LatencySnapshot getParseLatency();
+
+    LatencySnapshot getCompareLatency();
+}
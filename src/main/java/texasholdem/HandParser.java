@@ -0,0 +1,180 @@
+package texasholdem;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses hands in the format accepted by {@link PokerHand#PokerHand(String)}, e.g. "KS 2H 5C JD TD",
+ * straight into a {@link PackedHand} mask.
+ *
+ * Input is read in place from a {@link CharSequence}, a byte array or a {@link ByteBuffer} slice,
+ * and letters are resolved through constant-time tables, so a successful parse creates no objects.
+ * Every card must be two characters long and cards must be separated by a single space.
+ * Since a mask holds each card once, a hand with a repeated card is rejected.
+ */
+public final class HandParser {
+
+    public static final int CARDS_IN_HAND = 5;
+    // Two characters per card plus a separator between cards
+    public static final int HAND_LENGTH = CARDS_IN_HAND * 3 - 1;
+
+    private static final char SEPARATOR = ' ';
+    private static final int INVALID = -1;
+    private static final byte[] RANK_INDEXES = new byte[128];
+    private static final byte[] SUIT_INDEXES = new byte[128];
+
+    static {
+        Arrays.fill(RANK_INDEXES, (byte) INVALID);
+        Arrays.fill(SUIT_INDEXES, (byte) INVALID);
+        for (CardRank rank : CardRank.values()) {
+            RANK_INDEXES[rank.getLetter()] = (byte) rank.ordinal();
+        }
+        for (CardSuit suit : CardSuit.values()) {
+            SUIT_INDEXES[suit.getSuit()] = (byte) suit.ordinal();
+        }
+    }
+
+    private HandParser() {
+    }
+
+    public static long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the hand held by {@code text} between {@code start} (inclusive) and {@code end} (exclusive).
+     *
+     * @return The {@link PackedHand} mask of the hand.
+     * @throws IllegalArgumentException if the text is not a hand of five distinct valid cards.
+     */
+    public static long parse(CharSequence text, int start, int end) {
+        if (end - start != HAND_LENGTH) {
+            throw invalidHand(text.subSequence(start, end).toString());
+        }
+        long hand = PackedHand.EMPTY;
+        for (int i = start; i < end; i += 3) {
+            if (i > start && text.charAt(i - 1) != SEPARATOR) {
+                throw invalidHand(text.subSequence(start, end).toString());
+            }
+            int card = cardOf(text.charAt(i), text.charAt(i + 1));
+            if (card == INVALID || PackedHand.contains(hand, card)) {
+                throw invalidCard(i - start, text.subSequence(start, end).toString());
+            }
+            hand = PackedHand.add(hand, card);
+        }
+        return hand;
+    }
+
+    public static long parse(byte[] bytes) {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the hand held by {@code length} ASCII bytes starting at {@code offset}.
+     *
+     * @return The {@link PackedHand} mask of the hand.
+     * @throws IllegalArgumentException if the bytes are not a hand of five distinct valid cards.
+     */
+    public static long parse(byte[] bytes, int offset, int length) {
+        if (length != HAND_LENGTH) {
+            throw invalidHand(new String(bytes, offset, length, StandardCharsets.US_ASCII));
+        }
+        long hand = PackedHand.EMPTY;
+        for (int i = offset; i < offset + length; i += 3) {
+            if (i > offset && bytes[i - 1] != SEPARATOR) {
+                throw invalidHand(new String(bytes, offset, length, StandardCharsets.US_ASCII));
+            }
+            int card = cardOf(bytes[i], bytes[i + 1]);
+            if (card == INVALID || PackedHand.contains(hand, card)) {
+                throw invalidCard(i - offset, new String(bytes, offset, length, StandardCharsets.US_ASCII));
+            }
+            hand = PackedHand.add(hand, card);
+        }
+        return hand;
+    }
+
+    /**
+     * Parses the hand between the position and the limit of the buffer, without moving its position.
+     */
+    public static long parse(ByteBuffer buffer) {
+        return parse(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Parses the hand held by {@code length} ASCII bytes starting at the absolute {@code offset} of the buffer.
+     * The position of the buffer is not changed.
+     *
+     * @return The {@link PackedHand} mask of the hand.
+     * @throws IllegalArgumentException if the bytes are not a hand of five distinct valid cards.
+     */
+    public static long parse(ByteBuffer buffer, int offset, int length) {
+        if (length != HAND_LENGTH) {
+            throw invalidHand(asString(buffer, offset, length));
+        }
+        long hand = PackedHand.EMPTY;
+        for (int i = offset; i < offset + length; i += 3) {
+            if (i > offset && buffer.get(i - 1) != SEPARATOR) {
+                throw invalidHand(asString(buffer, offset, length));
+            }
+            int card = cardOf(buffer.get(i), buffer.get(i + 1));
+            if (card == INVALID || PackedHand.contains(hand, card)) {
+                throw invalidCard(i - offset, asString(buffer, offset, length));
+            }
+            hand = PackedHand.add(hand, card);
+        }
+        return hand;
+    }
+
+    /**
+     * Parses a single two-letter card, e.g. 'K' and 'S' for the King of Spades.
+     *
+     * @return The {@link PackedCard} value of the card.
+     * @throws IllegalArgumentException if either letter is not valid.
+     */
+    public static int parseCard(char rank, char suit) {
+        int card = cardOf(rank, suit);
+        if (card == INVALID) {
+            throw new IllegalArgumentException("Invalid card format: " + rank + suit + ".");
+        }
+        return card;
+    }
+
+    /**
+     * @return The rank index of the letter (0 for **TWO** up to 12 for **ACE**), or -1 if it is not a rank.
+     */
+    static int rankIndex(int letter) {
+        return letter >= 0 && letter < RANK_INDEXES.length ? RANK_INDEXES[letter] : INVALID;
+    }
+
+    /**
+     * @return The suit index of the letter (the ordinal of {@link CardSuit}), or -1 if it is not a suit.
+     */
+    static int suitIndex(int letter) {
+        return letter >= 0 && letter < SUIT_INDEXES.length ? SUIT_INDEXES[letter] : INVALID;
+    }
+
+    private static int cardOf(int rankLetter, int suitLetter) {
+        int rank = rankIndex(rankLetter);
+        int suit = suitIndex(suitLetter);
+        return rank == INVALID || suit == INVALID ? INVALID : PackedCard.of(rank, suit);
+    }
+
+    private static String asString(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static IllegalArgumentException invalidHand(String text) {
+        return new IllegalArgumentException("Invalid hand format: " + text
+                + ". Poker Hand must contain exactly 5 cards separated by spaces.");
+    }
+
+    private static IllegalArgumentException invalidCard(int position, String text) {
+        return new IllegalArgumentException("Invalid or repeated card "
+                + text.substring(position, position + 2) + " in hand: " + text + ".");
+    }
+}
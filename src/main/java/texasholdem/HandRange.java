@@ -0,0 +1,248 @@
+package texasholdem;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A weighted set of hole card combinations, written in the usual range notation.
+ *
+ * The notation is a comma separated list of:
+ * - a pair ({@code "TT"}), a suited ({@code "AKs"}), an offsuit ({@code "AKo"}) or any ({@code "AK"}) hand;
+ * - the same followed by {@code "+"}: pairs up to aces ({@code "TT+"}) or kickers up to one below the top card ({@code "A2s+"});
+ * - a dash range of hands with the same top card ({@code "K9o-K5o"}) or with the same gap ({@code "76s-54s"}, {@code "55-22"});
+ * - a specific combination ({@code "AsKh"}).
+ * Any part may end with {@code ":weight"}, the share of its combinations the range holds (1 by default).
+ * Ranks are upper case, suits may be either case. When a combination is listed twice, the last weight wins.
+ */
+public final class HandRange {
+
+    private static final int RANKS = CardRank.values().length;
+    private static final int SUITS = CardSuit.values().length;
+    private static final int ACE = RANKS - 1;
+
+    private final long[] combos;
+    private final double[] weights;
+
+    private HandRange(long[] combos, double[] weights) {
+        this.combos = combos;
+        this.weights = weights;
+    }
+
+    /**
+     * @param range The range in the notation described above.
+     * @return The range with its combinations in the order they were listed.
+     * @throws IllegalArgumentException if the notation is invalid or the range is empty.
+     */
+    public static HandRange parse(String range) {
+        if (range == null || range.isBlank()) {
+            throw new IllegalArgumentException("Range cannot be null or empty.");
+        }
+        Map<Long, Double> combos = new LinkedHashMap<>();
+        for (String part : range.split(",")) {
+            parsePart(part.strip(), combos);
+        }
+        return of(combos);
+    }
+
+    private static HandRange of(Map<Long, Double> combos) {
+        long[] hands = new long[combos.size()];
+        double[] weights = new double[combos.size()];
+        int i = 0;
+        for (Map.Entry<Long, Double> entry : combos.entrySet()) {
+            hands[i] = entry.getKey();
+            weights[i++] = entry.getValue();
+        }
+        return new HandRange(hands, weights);
+    }
+
+    /**
+     * @param deadCards The {@link PackedHand} of cards known to be elsewhere, such as the board or other players' cards.
+     * @return The range without the combinations that hold any of the cards.
+     */
+    public HandRange without(long deadCards) {
+        int size = 0;
+        for (long combo : combos) {
+            if ((combo & deadCards) == 0) {
+                size++;
+            }
+        }
+        long[] liveCombos = new long[size];
+        double[] liveWeights = new double[size];
+        int position = 0;
+        for (int i = 0; i < combos.length; i++) {
+            if ((combos[i] & deadCards) == 0) {
+                liveCombos[position] = combos[i];
+                liveWeights[position++] = weights[i];
+            }
+        }
+        return new HandRange(liveCombos, liveWeights);
+    }
+
+    /**
+     * @return The number of combinations.
+     */
+    public int size() {
+        return combos.length;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the two cards of the combination.
+     */
+    public long combo(int index) {
+        return combos[index];
+    }
+
+    public double weight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * @return The sum of the weights, which is the number of combinations for an unweighted range.
+     */
+    public double getTotalWeight() {
+        return Arrays.stream(weights).sum();
+    }
+
+    private static void parsePart(String part, Map<Long, Double> combos) {
+        String hands = part;
+        double weight = 1;
+        int colon = part.indexOf(':');
+        if (colon >= 0) {
+            hands = part.substring(0, colon).strip();
+            weight = parseWeight(part, part.substring(colon + 1).strip());
+        }
+        if (hands.length() == 4 && isSuit(hands.charAt(1)) && isSuit(hands.charAt(3))) {
+            long combo = PackedHand.of(card(part, hands.charAt(0), hands.charAt(1)), card(part, hands.charAt(2), hands.charAt(3)));
+            if (PackedHand.size(combo) != 2) {
+                throw invalid(part);
+            }
+            combos.put(combo, weight);
+            return;
+        }
+        int dash = hands.indexOf('-');
+        if (dash >= 0) {
+            parseDashRange(part, hands.substring(0, dash).strip(), hands.substring(dash + 1).strip(), weight, combos);
+            return;
+        }
+        boolean plus = hands.endsWith("+");
+        Hand hand = Hand.parse(part, plus ? hands.substring(0, hands.length() - 1) : hands);
+        if (!plus) {
+            hand.addCombos(weight, combos);
+        } else if (hand.isPair()) {
+            for (int rank = hand.high; rank <= ACE; rank++) {
+                new Hand(rank, rank, hand.suitedness).addCombos(weight, combos);
+            }
+        } else {
+            for (int kicker = hand.low; kicker < hand.high; kicker++) {
+                new Hand(hand.high, kicker, hand.suitedness).addCombos(weight, combos);
+            }
+        }
+    }
+
+    private static void parseDashRange(String part, String from, String to, double weight, Map<Long, Double> combos) {
+        Hand first = Hand.parse(part, from);
+        Hand last = Hand.parse(part, to);
+        if (first.suitedness != last.suitedness || first.isPair() != last.isPair()) {
+            throw invalid(part);
+        }
+        int gap = first.high - first.low;
+        if (gap == last.high - last.low) {
+            for (int high = Math.min(first.high, last.high); high <= Math.max(first.high, last.high); high++) {
+                new Hand(high, high - gap, first.suitedness).addCombos(weight, combos);
+            }
+        } else if (first.high == last.high) {
+            for (int kicker = Math.min(first.low, last.low); kicker <= Math.max(first.low, last.low); kicker++) {
+                new Hand(first.high, kicker, first.suitedness).addCombos(weight, combos);
+            }
+        } else {
+            throw invalid(part);
+        }
+    }
+
+    private static double parseWeight(String part, String weight) {
+        try {
+            double value = Double.parseDouble(weight);
+            if (value > 0 && value <= 1) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with the weights out of range
+        }
+        throw new IllegalArgumentException("Weight must be greater than 0 and at most 1: " + part);
+    }
+
+    private static boolean isSuit(char letter) {
+        return HandParser.suitIndex(Character.toUpperCase(letter)) >= 0;
+    }
+
+    private static int card(String part, char rankLetter, char suitLetter) {
+        int rank = HandParser.rankIndex(rankLetter);
+        int suit = HandParser.suitIndex(Character.toUpperCase(suitLetter));
+        if (rank < 0 || suit < 0) {
+            throw invalid(part);
+        }
+        return PackedCard.of(rank, suit);
+    }
+
+    private static IllegalArgumentException invalid(String part) {
+        return new IllegalArgumentException("Invalid range: " + part);
+    }
+
+    private enum Suitedness { SUITED, OFFSUIT, ANY }
+
+    /**
+     * Two ranks, the higher one first, and which suit combinations of them are meant.
+     */
+    private static final class Hand {
+
+        private final int high;
+        private final int low;
+        private final Suitedness suitedness;
+
+        Hand(int high, int low, Suitedness suitedness) {
+            this.high = high;
+            this.low = low;
+            this.suitedness = suitedness;
+        }
+
+        static Hand parse(String part, String hand) {
+            if (hand.length() < 2 || hand.length() > 3) {
+                throw invalid(part);
+            }
+            int first = HandParser.rankIndex(hand.charAt(0));
+            int second = HandParser.rankIndex(hand.charAt(1));
+            if (first < 0 || second < 0) {
+                throw invalid(part);
+            }
+            Suitedness suitedness = Suitedness.ANY;
+            if (hand.length() == 3) {
+                suitedness = switch (Character.toLowerCase(hand.charAt(2))) {
+                    case 's' -> Suitedness.SUITED;
+                    case 'o' -> Suitedness.OFFSUIT;
+                    default -> throw invalid(part);
+                };
+            }
+            if (first == second && suitedness != Suitedness.ANY) {
+                throw invalid(part);
+            }
+            return new Hand(Math.max(first, second), Math.min(first, second), suitedness);
+        }
+
+        boolean isPair() {
+            return high == low;
+        }
+
+        void addCombos(double weight, Map<Long, Double> combos) {
+            for (int suit1 = 0; suit1 < SUITS; suit1++) {
+                for (int suit2 = isPair() ? suit1 + 1 : 0; suit2 < SUITS; suit2++) {
+                    boolean suited = suit1 == suit2;
+                    if (suitedness == Suitedness.SUITED && !suited || suitedness == Suitedness.OFFSUIT && suited) {
+                        continue;
+                    }
+                    combos.put(PackedHand.of(PackedCard.of(high, suit1), PackedCard.of(low, suit2)), weight);
+                }
+            }
+        }
+    }
+}
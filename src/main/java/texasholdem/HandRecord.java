@@ -0,0 +1,74 @@
+package texasholdem;
+
+/**
+ * Compact record of a hand in a single {@code long}: its strength and its five cards in their original order.
+ *
+ * Layout (from the most significant bits):
+ * - bits 30-53: the inverted strength (see {@link HandStrength}), so that ascending records go from the strongest hand;
+ * - bits 0-29: five {@link PackedCard} values, 6 bits each, the first card in the highest bits.
+ */
+final class HandRecord {
+
+    static final int CARDS = 5;
+    // A card as text plus the separator after it, e.g. "KS "
+    static final int TEXT_LENGTH = CARDS * 3;
+
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    private static final int STRENGTH_SHIFT = CARDS * CARD_BITS;
+    private static final int STRENGTH_MASK = (1 << (HandStrength.CATEGORY_SHIFT + HandStrength.RANK_BITS)) - 1;
+    private static final byte[] RANK_LETTERS = new byte[CardRank.values().length];
+    private static final byte[] SUIT_LETTERS = new byte[CardSuit.values().length];
+
+    static {
+        for (CardRank rank : CardRank.values()) {
+            RANK_LETTERS[rank.ordinal()] = (byte) rank.getLetter();
+        }
+        for (CardSuit suit : CardSuit.values()) {
+            SUIT_LETTERS[suit.ordinal()] = (byte) suit.getSuit();
+        }
+    }
+
+    private HandRecord() {
+    }
+
+    static long of(int strength, int card1, int card2, int card3, int card4, int card5) {
+        long cards = (long) card1 << 4 * CARD_BITS | (long) card2 << 3 * CARD_BITS
+                | (long) card3 << 2 * CARD_BITS | (long) card4 << CARD_BITS | card5;
+        return (long) (~strength & STRENGTH_MASK) << STRENGTH_SHIFT | cards;
+    }
+
+    static int strength(long record) {
+        return ~(int) (record >>> STRENGTH_SHIFT) & STRENGTH_MASK;
+    }
+
+    /**
+     * @return The {@link PackedCard} at the given position, from 0 to 4.
+     */
+    static int card(long record, int position) {
+        return (int) (record >>> (CARDS - 1 - position) * CARD_BITS) & CARD_MASK;
+    }
+
+    static long hand(long record) {
+        long hand = PackedHand.EMPTY;
+        for (int position = 0; position < CARDS; position++) {
+            hand = PackedHand.add(hand, card(record, position));
+        }
+        return hand;
+    }
+
+    /**
+     * Writes the hand as ASCII text in the {@link PokerHand} input format, followed by a line feed.
+     *
+     * @return The number of bytes written, always {@link #TEXT_LENGTH}.
+     */
+    static int writeLine(long record, byte[] target, int offset) {
+        for (int position = 0; position < CARDS; position++) {
+            int card = card(record, position);
+            target[offset + 3 * position] = RANK_LETTERS[PackedCard.rank(card)];
+            target[offset + 3 * position + 1] = SUIT_LETTERS[PackedCard.suit(card)];
+            target[offset + 3 * position + 2] = (byte) (position == CARDS - 1 ? '\n' : ' ');
+        }
+        return TEXT_LENGTH;
+    }
+}
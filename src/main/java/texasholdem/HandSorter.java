@@ -0,0 +1,89 @@
+package texasholdem;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Sorts hands from the strongest to the weakest in linear time.
+ *
+ * Strengths (see {@link HandStrength}) are extracted once and sorted with a stable LSD radix sort:
+ * the 24-bit key is split into two 12-bit digits, so the hands are moved in two passes
+ * over 4096 buckets instead of being compared O(n log n) times.
+ * Hands of equal strength keep their relative order, exactly as with {@code Collections.sort}.
+ */
+public final class HandSorter {
+
+    private static final int KEY_BITS = HandStrength.CATEGORY_SHIFT + HandStrength.RANK_BITS;
+    private static final int DIGIT_BITS = 12;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int KEY_MASK = (1 << KEY_BITS) - 1;
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private HandSorter() {
+    }
+
+    /**
+     * Sorts the hands in place from the strongest to the weakest, in the order of {@link PokerHand#compareTo}.
+     */
+    public static void sort(List<PokerHand> hands) {
+        PokerHand[] unsorted = hands.toArray(new PokerHand[0]);
+        int[] strengths = new int[unsorted.length];
+        for (int i = 0; i < unsorted.length; i++) {
+            strengths[i] = unsorted[i].getStrength();
+        }
+        int[] order = rankOrder(strengths);
+        ListIterator<PokerHand> iterator = hands.listIterator();
+        for (int index : order) {
+            iterator.next();
+            iterator.set(unsorted[index]);
+        }
+    }
+
+    /**
+     * Computes the permutation that orders the strengths from the strongest to the weakest.
+     *
+     * @param strengths Packed strengths, e.g. from {@link PokerHand#getStrength()}.
+     * @return The indexes of {@code strengths}, strongest first; equal strengths keep their relative order.
+     */
+    public static int[] rankOrder(int[] strengths) {
+        // Each item holds the inverted key (so ascending order is strongest first) above the original index
+        long[] items = new long[strengths.length];
+        for (int i = 0; i < strengths.length; i++) {
+            items[i] = (long) (~strengths[i] & KEY_MASK) << Integer.SIZE | i;
+        }
+        long[] buffer = new long[items.length];
+        int[] offsets = new int[BUCKETS];
+        for (int shift = Integer.SIZE; shift < Integer.SIZE + KEY_BITS; shift += DIGIT_BITS) {
+            Arrays.fill(offsets, 0);
+            for (long item : items) {
+                offsets[digit(item, shift)]++;
+            }
+            if (offsets[digit(items.length == 0 ? 0 : items[0], shift)] == items.length) {
+                // Every key has the same digit, the pass would not change the order
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                int count = offsets[bucket];
+                offsets[bucket] = offset;
+                offset += count;
+            }
+            for (long item : items) {
+                buffer[offsets[digit(item, shift)]++] = item;
+            }
+            long[] sorted = buffer;
+            buffer = items;
+            items = sorted;
+        }
+        int[] order = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            order[i] = (int) (items[i] & INDEX_MASK);
+        }
+        return order;
+    }
+
+    private static int digit(long item, int shift) {
+        return (int) (item >>> shift) & (BUCKETS - 1);
+    }
+}
@@ -0,0 +1,158 @@
+package texasholdem;
+
+/**
+ * The cards a player holds so far, built up one card at a time as the streets are dealt.
+ *
+ * Adding a card only stores the new {@link PackedHand} on a stack of at most seven entries, and the strength of
+ * each depth is computed the first time it is asked for (see {@link SevenCardEvaluator}) and kept on the stack too,
+ * so {@link #undo()} gets back to the previous cards and their strength without any work. This fits tree searches
+ * that walk boards depth first: add a card, look at the strength, search deeper, undo.
+ *
+ * With fewer than five cards the strength ranks the groups of equal ranks and the kickers held so far;
+ * straights and flushes need five cards. A state is not thread-safe; give each thread its own {@link #copy()}.
+ */
+public final class HandState {
+
+    public static final int MAX_CARDS = SevenCardEvaluator.MAX_CARDS;
+
+    private static final int UNKNOWN_STRENGTH = -1;
+    // One bit per suit at the position of TWO; shifted by a rank it selects all four cards of that rank
+    private static final long RANK_CARDS = 0x0001_0001_0001_0001L;
+
+    private final long[] cards = new long[MAX_CARDS + 1];
+    private final int[] strengths = new int[MAX_CARDS + 1];
+    private int size;
+
+    public HandState() {
+        strengths[0] = UNKNOWN_STRENGTH;
+    }
+
+    /**
+     * @param cards The {@link PackedHand} of up to seven cards to start with.
+     * @throws IllegalArgumentException if the hand holds invalid cards or more than seven cards.
+     */
+    public static HandState of(long cards) {
+        return new HandState().addAll(cards);
+    }
+
+    /**
+     * @param card The {@link PackedCard} to add.
+     * @return This state.
+     * @throws IllegalArgumentException if the card is invalid or already held, or seven cards are held.
+     */
+    public HandState add(int card) {
+        if (!PackedCard.isValid(card)) {
+            throw new IllegalArgumentException("Invalid card: " + card);
+        }
+        long current = cards[size];
+        if (PackedHand.contains(current, card)) {
+            throw new IllegalArgumentException("Card is already held: " + PackedCard.toString(card));
+        }
+        if (size == MAX_CARDS) {
+            throw new IllegalArgumentException("Hand cannot contain more than " + MAX_CARDS + " cards.");
+        }
+        size++;
+        cards[size] = PackedHand.add(current, card);
+        strengths[size] = UNKNOWN_STRENGTH;
+        return this;
+    }
+
+    /**
+     * Adds the cards in the order of {@link PackedHand}, so each of them can be undone on its own.
+     *
+     * @return This state.
+     * @throws IllegalArgumentException if a card is invalid or already held, or there is no room for all of them.
+     */
+    public HandState addAll(long newCards) {
+        if (!PackedHand.isValid(newCards)) {
+            throw new IllegalArgumentException("Invalid cards: " + Long.toHexString(newCards));
+        }
+        long remaining = newCards;
+        while (remaining != PackedHand.EMPTY) {
+            int card = PackedHand.firstCard(remaining);
+            add(card);
+            remaining = PackedHand.remove(remaining, card);
+        }
+        return this;
+    }
+
+    /**
+     * Removes the card added last.
+     *
+     * @return This state.
+     * @throws IllegalStateException if no card is held.
+     */
+    public HandState undo() {
+        if (size == 0) {
+            throw new IllegalStateException("No card to undo.");
+        }
+        size--;
+        return this;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the cards held.
+     */
+    public long cards() {
+        return cards[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The strength of the best hand made of the cards held (see {@link PokerHand#getStrength()}).
+     */
+    public int strength() {
+        int strength = strengths[size];
+        if (strength == UNKNOWN_STRENGTH) {
+            strength = SevenCardEvaluator.strengthOf(cards[size]);
+            strengths[size] = strength;
+        }
+        return strength;
+    }
+
+    public HandRanking handRanking() {
+        return HandStrength.handRanking(strength());
+    }
+
+    /**
+     * @param rank The rank index, the ordinal of {@link CardRank}.
+     * @return The number of cards of the rank held.
+     */
+    public int rankCount(int rank) {
+        return Long.bitCount(cards[size] & RANK_CARDS << rank);
+    }
+
+    /**
+     * @param suit The suit index, the ordinal of {@link CardSuit}.
+     * @return The number of cards of the suit held.
+     */
+    public int suitCount(int suit) {
+        return Integer.bitCount(PackedHand.suitRanks(cards[size], suit));
+    }
+
+    /**
+     * @return An independent state with the same cards and the same history to undo.
+     */
+    public HandState copy() {
+        HandState copy = new HandState();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Makes this state equal to the other one without allocating, for reusing states in a search.
+     */
+    public void copyFrom(HandState other) {
+        System.arraycopy(other.cards, 0, cards, 0, other.size + 1);
+        System.arraycopy(other.strengths, 0, strengths, 0, other.size + 1);
+        size = other.size;
+    }
+
+    @Override
+    public String toString() {
+        return "HandState{cards=" + PackedHand.toString(cards[size]) + ", " + handRanking() + "}";
+    }
+}
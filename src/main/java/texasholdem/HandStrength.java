@@ -0,0 +1,77 @@
+package texasholdem;
+
+/**
+ * Packs a hand's strength into a single {@code int}, so that a greater value always means a stronger hand.
+ *
+ * Layout (from the most significant bits):
+ * - bits 20-23: the category, 0 for **HIGH_CARD** up to 9 for **ROYAL_FLUSH**;
+ * - bits 0-19: up to five rank weights (4 bits each) in the order they are compared,
+ *   first the ranks forming the combination, then the kickers.
+ *
+ * The Ace of a "wheel" straight (Ace through 5) is stored with weight 1.
+ * Royal flushes carry no ranks at all, so all of them are equal.
+ */
+final class HandStrength {
+
+    static final int CATEGORY_SHIFT = 20;
+    static final int RANK_BITS = 4;
+    static final int MAX_RANKS = 5;
+
+    private static final HandRanking[] RANKINGS = HandRanking.values();
+
+    private HandStrength() {
+    }
+
+    /**
+     * Packs the category and the ranks of a hand.
+     *
+     * @param handRanking The category of the hand.
+     * @param weights Rank weights in comparison order (at most five).
+     * @return The packed strength.
+     */
+    static int of(HandRanking handRanking, int... weights) {
+        if (weights.length > MAX_RANKS) {
+            throw new IllegalArgumentException("Strength can hold at most " + MAX_RANKS + " ranks.");
+        }
+        int strength = category(handRanking) << CATEGORY_SHIFT;
+        for (int i = 0; i < weights.length; i++) {
+            strength |= weights[i] << shift(i);
+        }
+        return strength;
+    }
+
+    static int category(HandRanking handRanking) {
+        return RANKINGS.length - 1 - handRanking.ordinal();
+    }
+
+    /**
+     * @return The smallest strength of the category, below every hand of that category and above every weaker one.
+     */
+    static int lowest(HandRanking handRanking) {
+        return category(handRanking) << CATEGORY_SHIFT;
+    }
+
+    static HandRanking handRanking(int strength) {
+        return RANKINGS[rankingOrdinal(strength)];
+    }
+
+    /**
+     * @return The ordinal of the {@link HandRanking} of the strength, e.g. for a column of categories.
+     */
+    static int rankingOrdinal(int strength) {
+        return RANKINGS.length - 1 - (strength >>> CATEGORY_SHIFT);
+    }
+
+    /**
+     * @param strength The packed strength.
+     * @param index The position of the rank in comparison order, starting with 0.
+     * @return The rank weight at the given position, or 0 if there is none.
+     */
+    static int weightAt(int strength, int index) {
+        return (strength >>> shift(index)) & ((1 << RANK_BITS) - 1);
+    }
+
+    private static int shift(int index) {
+        return (MAX_RANKS - 1 - index) * RANK_BITS;
+    }
+}
@@ -0,0 +1,116 @@
+package texasholdem;
+
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed strengths (see {@link HandStrength}) of all 2,598,960 five-card hands, about 10 MB.
+ *
+ * Hands are indexed by their combinatorial (colex) index: for dense card indexes
+ * c1 &lt; c2 &lt; c3 &lt; c4 &lt; c5 (see {@link PackedCard#index(int)}) the index is
+ * C(c1, 1) + C(c2, 2) + C(c3, 3) + C(c4, 4) + C(c5, 5), so every hand has its own slot from 0 to 2,598,959.
+ *
+ * The table is built on first use of {@link #getInstance()}, in parallel by the highest card
+ * of the hand (each highest card owns a contiguous range of indexes). Call it at startup to
+ * avoid paying the build time on the first lookup.
+ */
+public final class HandStrengthTable {
+
+    public static final int HANDS = 2_598_960;
+
+    private static final int CARDS_IN_HAND = 5;
+    private static final int[][] BINOMIALS = new int[PackedCard.DECK_SIZE + 1][CARDS_IN_HAND + 1];
+
+    static {
+        for (int n = 0; n <= PackedCard.DECK_SIZE; n++) {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, CARDS_IN_HAND); k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+            }
+        }
+    }
+
+    private final int[] strengths;
+
+    private HandStrengthTable() {
+        LookupTableEvaluator evaluator = LookupTableEvaluator.INSTANCE;
+        strengths = new int[HANDS];
+        IntStream.range(CARDS_IN_HAND - 1, PackedCard.DECK_SIZE).parallel().forEach(c5 -> {
+            long highest = PackedHand.add(PackedHand.EMPTY, PackedCard.fromIndex(c5));
+            for (int c4 = 3; c4 < c5; c4++)
+                for (int c3 = 2; c3 < c4; c3++)
+                    for (int c2 = 1; c2 < c3; c2++)
+                        for (int c1 = 0; c1 < c2; c1++) {
+                            long hand = highest | PackedHand.of(PackedCard.fromIndex(c1), PackedCard.fromIndex(c2),
+                                    PackedCard.fromIndex(c3), PackedCard.fromIndex(c4));
+                            strengths[index(c1, c2, c3, c4, c5)] = evaluator.strength(hand);
+                        }
+        });
+    }
+
+    private static final class Holder {
+        private static final HandStrengthTable INSTANCE = new HandStrengthTable();
+    }
+
+    /**
+     * @return The shared table, built on the first call.
+     */
+    public static HandStrengthTable getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @param index The colex index of the hand, see {@link #index(long)}.
+     * @return The packed strength of the hand.
+     */
+    public int strength(int index) {
+        return strengths[index];
+    }
+
+    /**
+     * @param hand The {@link PackedHand} of exactly five cards.
+     * @return The packed strength of the hand.
+     */
+    public int strength(long hand) {
+        return strengths[index(hand)];
+    }
+
+    /**
+     * Computes the colex index of a five-card hand.
+     *
+     * @param hand The {@link PackedHand} of exactly five cards.
+     * @return The index of the hand, from 0 to 2,598,959.
+     * @throws IllegalArgumentException if the hand does not hold exactly five valid cards.
+     */
+    public static int index(long hand) {
+        if (PackedHand.size(hand) != CARDS_IN_HAND || !PackedHand.isValid(hand)) {
+            throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
+        }
+        int index = 0;
+        int k = 1;
+        // PackedCard values and dense indexes sort the same way, so the bits come in ascending dense order
+        for (long cards = hand; cards != 0; cards &= cards - 1) {
+            index += BINOMIALS[PackedCard.index(Long.numberOfTrailingZeros(cards))][k++];
+        }
+        return index;
+    }
+
+    /**
+     * The reverse of {@link #index(long)}.
+     */
+    public static long hand(int index) {
+        long hand = PackedHand.EMPTY;
+        int card = PackedCard.DECK_SIZE;
+        for (int k = CARDS_IN_HAND; k > 0; k--) {
+            do {
+                card--;
+            } while (BINOMIALS[card][k] > index);
+            index -= BINOMIALS[card][k];
+            hand = PackedHand.add(hand, PackedCard.fromIndex(card));
+        }
+        return hand;
+    }
+
+    private static int index(int c1, int c2, int c3, int c4, int c5) {
+        return BINOMIALS[c1][1] + BINOMIALS[c2][2] + BINOMIALS[c3][3] + BINOMIALS[c4][4] + BINOMIALS[c5][5];
+    }
+}
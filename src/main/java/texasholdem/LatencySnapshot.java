@@ -0,0 +1,73 @@
+package texasholdem;
+
+/**
+ * Latency distribution of one operation at the moment {@link HandMetrics#snapshot()} was taken.
+ * All values are in nanoseconds; percentiles are at most 12.5% above the true value.
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return percentile(50);
+    }
+
+    public long getP99() {
+        return percentile(99);
+    }
+
+    public long getP999() {
+        return percentile(99.9);
+    }
+
+    /**
+     * @param percentile The percentile from 0 to 100.
+     * @return The latency that the given share of the recorded operations did not exceed, or 0 if none were recorded.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencySnapshot{count=%d, mean=%.1f, p50=%d, p99=%d, p999=%d, max=%d}",
+                count, getMean(), getP50(), getP99(), getP999(), max);
+    }
+}
@@ -0,0 +1,310 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table-driven alternative to {@link PokerHandEvaluator}.
+ *
+ * Every hand is resolved with a single lookup into tables that are filled once, when the class is loaded:
+ * - a **Flush** of five distinct ranks is looked up by the bit mask of its ranks;
+ * - any other hand of five distinct ranks is looked up by the same mask in a second table;
+ * - a hand with repeated ranks is looked up by the product of the primes assigned to its ranks,
+ *   which is unique for every set of ranks regardless of the order of the cards.
+ *
+ * The tables hold packed strengths (see {@link HandStrength}), so {@link #strength} does not allocate.
+ * {@link #evaluate(PokerHand)} builds the same {@link Combination} as {@link PokerHandEvaluator} from that value.
+ *
+ * The evaluator has no state and can be shared between threads.
+ */
+public class LookupTableEvaluator implements HandEvaluator {
+
+    /** Used by lazy {@link PokerHand}s and the paths over packed hands, which only need {@link #strength}. */
+    public static final LookupTableEvaluator INSTANCE = new LookupTableEvaluator();
+
+    private static final CardRank[] RANKS = CardRank.values();
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int CARDS_IN_HAND = 5;
+    private static final int MAX_CARDS_OF_RANK = 4;
+
+    // Rank masks have bit 0 set for TWO and bit 12 set for ACE
+    private static final int STRAIGHT_MASK = 0b1_1111;
+    private static final int WHEEL_STRAIGHT_MASK = 0b1_0000_0000_1111;
+    private static final int ROYAL_FLUSH_MASK = 0b1_1111_0000_0000;
+
+    private static final int[] FLUSHES = new int[1 << RANKS.length];
+    private static final int[] UNIQUE_FIVES = new int[1 << RANKS.length];
+
+    // Open addressing table for the 4888 distinct prime products of hands with repeated ranks
+    private static final int PRODUCT_TABLE_BITS = 14;
+    private static final int PRODUCT_TABLE_MASK = (1 << PRODUCT_TABLE_BITS) - 1;
+    private static final int[] PRODUCT_KEYS = new int[1 << PRODUCT_TABLE_BITS];
+    private static final int[] PRODUCT_STRENGTHS = new int[1 << PRODUCT_TABLE_BITS];
+
+    static {
+        fillUniqueRankTables();
+        fillRepeatedRankTable(new int[RANKS.length], 0, 0);
+    }
+
+    @Override
+    public Combination evaluate(PokerHand pokerHand) {
+        return toCombination(strength(pokerHand), pokerHand.getCards());
+    }
+
+    /**
+     * Computes the packed strength of the poker hand without building a {@link Combination}.
+     *
+     * @param pokerHand The poker hand to evaluate
+     * @return The packed strength, greater for stronger hands.
+     */
+    public int strength(PokerHand pokerHand) {
+        List<Card> cards = pokerHand.getCards();
+        return strength(cards.get(0), cards.get(1), cards.get(2), cards.get(3), cards.get(4));
+    }
+
+    /**
+     * Computes the packed strength of five cards given in any order.
+     *
+     * @return The packed strength, greater for stronger hands.
+     * @throws IllegalStateException if the cards do not form a valid hand (e.g. five cards of the same rank).
+     */
+    public int strength(Card card1, Card card2, Card card3, Card card4, Card card5) {
+        int rank1 = card1.getRank().ordinal();
+        int rank2 = card2.getRank().ordinal();
+        int rank3 = card3.getRank().ordinal();
+        int rank4 = card4.getRank().ordinal();
+        int rank5 = card5.getRank().ordinal();
+        int rankMask = (1 << rank1) | (1 << rank2) | (1 << rank3) | (1 << rank4) | (1 << rank5);
+        if (Integer.bitCount(rankMask) == CARDS_IN_HAND) {
+            CardSuit suit = card1.getSuit();
+            boolean flush = card2.getSuit() == suit && card3.getSuit() == suit
+                    && card4.getSuit() == suit && card5.getSuit() == suit;
+            return flush ? FLUSHES[rankMask] : UNIQUE_FIVES[rankMask];
+        }
+        return repeatedRankStrength(PRIMES[rank1] * PRIMES[rank2] * PRIMES[rank3] * PRIMES[rank4] * PRIMES[rank5]);
+    }
+
+    /**
+     * Computes the packed strength of five {@link PackedCard} values given in any order.
+     *
+     * @return The packed strength, greater for stronger hands.
+     * @throws IllegalStateException if the cards do not form a valid hand (e.g. five cards of the same rank).
+     */
+    public int strength(int card1, int card2, int card3, int card4, int card5) {
+        int rank1 = PackedCard.rank(card1);
+        int rank2 = PackedCard.rank(card2);
+        int rank3 = PackedCard.rank(card3);
+        int rank4 = PackedCard.rank(card4);
+        int rank5 = PackedCard.rank(card5);
+        int rankMask = (1 << rank1) | (1 << rank2) | (1 << rank3) | (1 << rank4) | (1 << rank5);
+        if (Integer.bitCount(rankMask) == CARDS_IN_HAND) {
+            boolean flush = ((card1 ^ card2) | (card1 ^ card3) | (card1 ^ card4) | (card1 ^ card5)) >>> PackedCard.RANK_BITS == 0;
+            return flush ? FLUSHES[rankMask] : UNIQUE_FIVES[rankMask];
+        }
+        return repeatedRankStrength(PRIMES[rank1] * PRIMES[rank2] * PRIMES[rank3] * PRIMES[rank4] * PRIMES[rank5]);
+    }
+
+    /**
+     * Computes the packed strength of a five-card {@link PackedHand}.
+     *
+     * @return The packed strength, greater for stronger hands.
+     * @throws IllegalArgumentException if the hand does not hold exactly five valid cards.
+     */
+    public int strength(long hand) {
+        if (PackedHand.size(hand) != CARDS_IN_HAND || !PackedHand.isValid(hand)) {
+            throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
+        }
+        int rankMask = PackedHand.ranks(hand);
+        if (Integer.bitCount(rankMask) == CARDS_IN_HAND) {
+            // All five ranks are distinct, so a flush holds all of them in one suit
+            boolean flush = rankMask == PackedHand.suitRanks(hand, PackedCard.suit(PackedHand.firstCard(hand)));
+            return flush ? FLUSHES[rankMask] : UNIQUE_FIVES[rankMask];
+        }
+        int primeProduct = 1;
+        for (long cards = hand; cards != 0; cards &= cards - 1) {
+            primeProduct *= PRIMES[PackedCard.rank(Long.numberOfTrailingZeros(cards))];
+        }
+        return repeatedRankStrength(primeProduct);
+    }
+
+    /**
+     * Looks up five cards known only by the mask and the prime product of their ranks (see {@link #prime(int)}),
+     * for callers that build these incrementally from parts of a hand. A flush must hold five distinct ranks.
+     *
+     * @return The packed strength, greater for stronger hands.
+     */
+    static int strengthOf(int rankMask, int primeProduct, boolean flush) {
+        if (Integer.bitCount(rankMask) == CARDS_IN_HAND) {
+            return flush ? FLUSHES[rankMask] : UNIQUE_FIVES[rankMask];
+        }
+        return repeatedRankStrength(primeProduct);
+    }
+
+    /**
+     * @return The prime assigned to the rank index; the product over the cards identifies the ranks of a hand.
+     */
+    static int prime(int rank) {
+        return PRIMES[rank];
+    }
+
+    /**
+     * Builds the {@link Combination} described by a packed strength, exactly as {@link PokerHandEvaluator} would.
+     *
+     * @param strength The packed strength of the hand.
+     * @param cards The cards of the hand sorted from the highest to the lowest.
+     * @return A {@link Combination} with the combination cards and kickers of the hand.
+     */
+    static Combination toCombination(int strength, List<Card> cards) {
+        HandRanking handRanking = HandStrength.handRanking(strength);
+        int[] rankCounts = new int[RANKS.length];
+        for (Card card : cards) {
+            rankCounts[card.getRank().ordinal()]++;
+        }
+        return switch (handRanking) {
+            case HIGH_CARD -> new Combination(handRanking,
+                    Collections.emptyList(), cardsWithFrequency(cards, rankCounts, 1));
+            case ONE_PAIR, TWO_PAIR -> new Combination(handRanking,
+                    cardsWithFrequency(cards, rankCounts, 2), cardsWithFrequency(cards, rankCounts, 1));
+            case SET -> new Combination(handRanking,
+                    cardsWithFrequency(cards, rankCounts, 3), cardsWithFrequency(cards, rankCounts, 1));
+            case FULL_HOUSE -> new Combination(handRanking,
+                    cardsWithFrequency(cards, rankCounts, 3), cardsWithFrequency(cards, rankCounts, 2));
+            case FOUR_OF_A_KIND -> new Combination(handRanking,
+                    cardsWithFrequency(cards, rankCounts, 4), cardsWithFrequency(cards, rankCounts, 1));
+            case STRAIGHT, STRAIGHT_FLUSH -> new Combination(handRanking,
+                    straightCards(strength, cards), Collections.emptyList());
+            case FLUSH, ROYAL_FLUSH -> new Combination(handRanking,
+                    new ArrayList<>(cards), Collections.emptyList());
+        };
+    }
+
+    private static List<Card> cardsWithFrequency(List<Card> cards, int[] rankCounts, int frequency) {
+        List<Card> result = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            if (rankCounts[card.getRank().ordinal()] == frequency) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    // In a "wheel" straight the Ace is the lowest card, so it moves to the end of the sequence
+    private static List<Card> straightCards(int strength, List<Card> cards) {
+        if (HandStrength.weightAt(strength, 0) != CardRank.FIVE.getWeight()) {
+            return new ArrayList<>(cards);
+        }
+        List<Card> combination = new ArrayList<>(cards.subList(1, cards.size()));
+        combination.add(WheelStraightCard.of(cards.get(0)));
+        return combination;
+    }
+
+    private static int repeatedRankStrength(int primeProduct) {
+        int slot = productSlot(primeProduct);
+        while (PRODUCT_KEYS[slot] != primeProduct) {
+            if (PRODUCT_KEYS[slot] == 0) {
+                throw new IllegalStateException("Unexpected hand state");
+            }
+            slot = (slot + 1) & PRODUCT_TABLE_MASK;
+        }
+        return PRODUCT_STRENGTHS[slot];
+    }
+
+    private static int productSlot(int primeProduct) {
+        return (primeProduct * 0x9E3779B9) >>> (Integer.SIZE - PRODUCT_TABLE_BITS);
+    }
+
+    private static void fillUniqueRankTables() {
+        for (int rankMask = 0; rankMask < FLUSHES.length; rankMask++) {
+            if (Integer.bitCount(rankMask) != CARDS_IN_HAND) {
+                continue;
+            }
+            int straightHighWeight = straightHighWeight(rankMask);
+            int[] weights = descendingWeights(rankMask);
+            if (rankMask == ROYAL_FLUSH_MASK) {
+                FLUSHES[rankMask] = HandStrength.of(HandRanking.ROYAL_FLUSH);
+            } else if (straightHighWeight != 0) {
+                FLUSHES[rankMask] = HandStrength.of(HandRanking.STRAIGHT_FLUSH, straightHighWeight);
+            } else {
+                FLUSHES[rankMask] = HandStrength.of(HandRanking.FLUSH, weights);
+            }
+            UNIQUE_FIVES[rankMask] = straightHighWeight != 0
+                    ? HandStrength.of(HandRanking.STRAIGHT, straightHighWeight)
+                    : HandStrength.of(HandRanking.HIGH_CARD, weights);
+        }
+    }
+
+    // Enumerates every multiset of five ranks with at most four cards of a rank
+    private static void fillRepeatedRankTable(int[] rankCounts, int rank, int cards) {
+        if (cards == CARDS_IN_HAND) {
+            addRepeatedRankEntry(rankCounts);
+            return;
+        }
+        if (rank == RANKS.length) {
+            return;
+        }
+        for (int count = 0; count <= Math.min(MAX_CARDS_OF_RANK, CARDS_IN_HAND - cards); count++) {
+            rankCounts[rank] = count;
+            fillRepeatedRankTable(rankCounts, rank + 1, cards + count);
+        }
+        rankCounts[rank] = 0;
+    }
+
+    private static void addRepeatedRankEntry(int[] rankCounts) {
+        int primeProduct = 1;
+        int uniqueRanks = 0;
+        int maxFrequency = 0;
+        for (int rank = 0; rank < RANKS.length; rank++) {
+            for (int i = 0; i < rankCounts[rank]; i++) {
+                primeProduct *= PRIMES[rank];
+            }
+            uniqueRanks += rankCounts[rank] > 0 ? 1 : 0;
+            maxFrequency = Math.max(maxFrequency, rankCounts[rank]);
+        }
+        if (uniqueRanks == CARDS_IN_HAND) {
+            return;
+        }
+        // Combination ranks come first (higher frequency first), then kickers, each from the highest
+        int[] weights = new int[uniqueRanks];
+        int position = 0;
+        for (int frequency = MAX_CARDS_OF_RANK; frequency > 0; frequency--) {
+            for (int rank = RANKS.length - 1; rank >= 0; rank--) {
+                if (rankCounts[rank] == frequency) {
+                    weights[position++] = RANKS[rank].getWeight();
+                }
+            }
+        }
+        HandRanking handRanking = switch (maxFrequency) {
+            case 4 -> HandRanking.FOUR_OF_A_KIND;
+            case 3 -> uniqueRanks == 2 ? HandRanking.FULL_HOUSE : HandRanking.SET;
+            default -> uniqueRanks == 3 ? HandRanking.TWO_PAIR : HandRanking.ONE_PAIR;
+        };
+        int slot = productSlot(primeProduct);
+        while (PRODUCT_KEYS[slot] != 0) {
+            slot = (slot + 1) & PRODUCT_TABLE_MASK;
+        }
+        PRODUCT_KEYS[slot] = primeProduct;
+        PRODUCT_STRENGTHS[slot] = HandStrength.of(handRanking, weights);
+    }
+
+    private static int straightHighWeight(int rankMask) {
+        if (rankMask == WHEEL_STRAIGHT_MASK) {
+            return CardRank.FIVE.getWeight();
+        }
+        int lowestRank = Integer.numberOfTrailingZeros(rankMask);
+        return rankMask == STRAIGHT_MASK << lowestRank
+                ? RANKS[lowestRank + CARDS_IN_HAND - 1].getWeight()
+                : 0;
+    }
+
+    private static int[] descendingWeights(int rankMask) {
+        int[] weights = new int[Integer.bitCount(rankMask)];
+        int position = 0;
+        for (int rank = RANKS.length - 1; rank >= 0; rank--) {
+            if ((rankMask & (1 << rank)) != 0) {
+                weights[position++] = RANKS[rank].getWeight();
+            }
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,103 @@
+package texasholdem;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Values of {@link HandMetrics} at the moment the snapshot was taken.
+ *
+ * Counters are read one after another while other threads may keep recording,
+ * so values taken together may be off by the operations that ran during the read.
+ */
+public final class MetricsSnapshot {
+
+    private final Map<HandRanking, Long> rankingCounts;
+    private final long parseErrors;
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final LatencySnapshot evaluateLatency;
+    private final LatencySnapshot parseLatency;
+    private final LatencySnapshot compareLatency;
+
+    MetricsSnapshot(EnumMap<HandRanking, Long> rankingCounts, long parseErrors, long cacheHits, long cacheMisses,
+                    LatencySnapshot evaluateLatency, LatencySnapshot parseLatency, LatencySnapshot compareLatency) {
+        this.rankingCounts = Collections.unmodifiableMap(rankingCounts);
+        this.parseErrors = parseErrors;
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.evaluateLatency = evaluateLatency;
+        this.parseLatency = parseLatency;
+        this.compareLatency = compareLatency;
+    }
+
+    public long getEvaluations() {
+        return evaluateLatency.getCount();
+    }
+
+    public long getComparisons() {
+        return compareLatency.getCount();
+    }
+
+    /**
+     * @return The number of parsed hands, including the ones that failed.
+     */
+    public long getParses() {
+        return parseLatency.getCount();
+    }
+
+    public long getParseErrors() {
+        return parseErrors;
+    }
+
+    /**
+     * @return The number of evaluated hands of every {@link HandRanking}.
+     */
+    public Map<HandRanking, Long> getRankingCounts() {
+        return rankingCounts;
+    }
+
+    public long getRankingCount(HandRanking handRanking) {
+        return rankingCounts.get(handRanking);
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * @return The share of lookups in the tracked caches that were hits, or 0 if there were none.
+     */
+    public double getCacheHitRate() {
+        long lookups = cacheHits + cacheMisses;
+        return lookups == 0 ? 0 : (double) cacheHits / lookups;
+    }
+
+    public LatencySnapshot getEvaluateLatency() {
+        return evaluateLatency;
+    }
+
+    public LatencySnapshot getParseLatency() {
+        return parseLatency;
+    }
+
+    public LatencySnapshot getCompareLatency() {
+        return compareLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+                "rankingCounts=" + rankingCounts +
+                ", parseErrors=" + parseErrors +
+                ", cacheHitRate=" + getCacheHitRate() +
+                ", evaluate=" + evaluateLatency +
+                ", parse=" + parseLatency +
+                ", compare=" + compareLatency +
+                '}';
+    }
+}
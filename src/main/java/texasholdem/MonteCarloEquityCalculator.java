@@ -0,0 +1,118 @@
+package texasholdem;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Estimates the equity of every player by dealing random run-outs of the board.
+ *
+ * Trials are run in rounds of batches on a {@link ForkJoinPool}. Every batch gets its own
+ * {@link SplittableRandom} split off on the calling thread and its own {@link EquityTally},
+ * so workers share nothing but the read-only spot and are merged only between rounds.
+ * After each round the calculation stops once the trial budget or the time budget is used up,
+ * or once the 95% confidence interval of every player is narrower than the target margin.
+ */
+public class MonteCarloEquityCalculator {
+
+    static final int BATCH_TRIALS = 20_000;
+    // Fewer trials give too rough a variance estimate to trust for early stopping
+    private static final long MIN_TRIALS_TO_CONVERGE = 10_000;
+
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+
+    public MonteCarloEquityCalculator() {
+        this(ForkJoinPool.commonPool(), new SplittableRandom());
+    }
+
+    /**
+     * @param pool The pool that runs the trial batches.
+     * @param random The source that every batch's random generator is split from; a fixed seed
+     *               makes results reproducible for a trial budget.
+     */
+    public MonteCarloEquityCalculator(ForkJoinPool pool, SplittableRandom random) {
+        this.pool = pool;
+        this.random = random;
+    }
+
+    /**
+     * Runs exactly {@code trials} random run-outs.
+     *
+     * @see #calculate(long[], long, long, Duration, double)
+     */
+    public EquityResult calculate(long[] holeCards, long board, long trials) {
+        return calculate(holeCards, board, trials, null, 0);
+    }
+
+    /**
+     * Estimates the equity of every player.
+     *
+     * @param holeCards The {@link PackedHand} of each player's two hole cards.
+     * @param board The {@link PackedHand} of the board dealt so far (0 to 5 cards).
+     * @param maxTrials The largest number of run-outs to deal.
+     * @param maxTime The time after which no new round is started, or null for no time limit.
+     * @param targetMargin The 95% confidence half-width at which to stop early, or 0 to use the whole budget.
+     * @return The estimated {@link EquityResult}.
+     * @throws IllegalArgumentException if the cards do not describe a valid showdown.
+     */
+    public EquityResult calculate(long[] holeCards, long board, long maxTrials, Duration maxTime, double targetMargin) {
+        if (maxTrials <= 0) {
+            throw new IllegalArgumentException("Number of trials must be positive.");
+        }
+        EquitySpot spot = new EquitySpot(holeCards, board);
+        EquityTally total = new EquityTally(spot.players());
+        if (spot.missingBoardCards() == 0) {
+            spot.showdown(board, total);
+            return total.toResult(true);
+        }
+        long deadline = maxTime == null ? 0 : System.nanoTime() + maxTime.toNanos();
+        while (total.trials() < maxTrials) {
+            List<ForkJoinTask<EquityTally>> batches = new ArrayList<>();
+            long remaining = maxTrials - total.trials();
+            for (int i = 0; i < pool.getParallelism() && remaining > 0; i++) {
+                int trials = (int) Math.min(BATCH_TRIALS, remaining);
+                SplittableRandom batchRandom = splitRandom();
+                batches.add(pool.submit(() -> runTrials(spot, batchRandom, trials)));
+                remaining -= trials;
+            }
+            for (ForkJoinTask<EquityTally> batch : batches) {
+                total.merge(batch.join());
+            }
+            boolean converged = targetMargin > 0 && total.trials() >= MIN_TRIALS_TO_CONVERGE
+                    && total.maxMargin() <= targetMargin;
+            boolean timedOut = maxTime != null && System.nanoTime() - deadline >= 0;
+            if (converged || timedOut) {
+                break;
+            }
+        }
+        return total.toResult(false);
+    }
+
+    // SplittableRandom is not thread-safe, so concurrent calculations take turns splitting it
+    private synchronized SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    private static EquityTally runTrials(EquitySpot spot, SplittableRandom random, int trials) {
+        EquityTally tally = new EquityTally(spot.players());
+        int[] deck = spot.deck();
+        int missing = spot.missingBoardCards();
+        for (int trial = 0; trial < trials; trial++) {
+            long board = spot.board();
+            // Partial Fisher-Yates shuffle: the first cards of the deck become a uniformly random run-out
+            for (int i = 0; i < missing; i++) {
+                int j = i + random.nextInt(deck.length - i);
+                int card = deck[j];
+                deck[j] = deck[i];
+                deck[i] = card;
+                board = PackedHand.add(board, card);
+            }
+            spot.showdown(board, tally);
+        }
+        return tally;
+    }
+}
@@ -0,0 +1,206 @@
+package texasholdem;
+
+/**
+ * Finds the best Omaha hand: exactly two of the four hole cards with exactly three of the board cards.
+ *
+ * Rating all 60 five-card candidates (6 pairs of hole cards times 10 triples of board cards) repeats a lot of work,
+ * so the candidates are pruned on two observations:
+ * - apart from flushes, a five-card hand is rated by its ranks alone, so hole pairs and board triples with the same
+ *   ranks (e.g. {@code AS AH} and {@code AD AC}) are tried once; a flush needs a suited hole pair and a board triple
+ *   of the same suit, so on most boards no flush candidate is left at all;
+ * - only a **Full House** or **Four of a Kind** can beat a **Flush**, and both need a paired board,
+ *   so once a flush is found the other candidates are skipped on an unpaired board.
+ * The board triples are prepared once and shared by all players of {@link #strengths(long[], long)}.
+ *
+ * The strengths are the packed strengths of {@link LookupTableEvaluator} for the best five cards, so they rank
+ * with the same {@link HandRanking} model and compare directly. The evaluator has no state and can be shared between threads.
+ */
+public class OmahaEvaluator {
+
+    /** Board triples are prepared per call, so one instance serves every table and thread. */
+    public static final OmahaEvaluator INSTANCE = new OmahaEvaluator();
+
+    public static final int HOLE_CARDS = 4;
+    public static final int MIN_BOARD_CARDS = 3;
+    public static final int MAX_BOARD_CARDS = 5;
+
+    private static final int HOLE_PAIRS = 6;
+    private static final int MAX_BOARD_TRIPLES = 10;
+
+    /**
+     * Computes the strength of the best hand of two hole cards and three board cards.
+     *
+     * @param holeCards The {@link PackedHand} of the player's four cards.
+     * @param board The {@link PackedHand} of three to five community cards.
+     * @return The packed strength of the best five-card hand.
+     * @throws IllegalArgumentException if the hole cards or the board have the wrong size, or they share a card.
+     */
+    public int strength(long holeCards, long board) {
+        checkHoleCards(holeCards, board);
+        return strength(holeCards, new Board(board));
+    }
+
+    /**
+     * Computes the strengths of several players on the same board, preparing the board only once.
+     *
+     * @param holeCards The {@link PackedHand} of the four cards of every player.
+     * @param board The {@link PackedHand} of three to five community cards.
+     * @return The packed strength of the best hand of every player, in the same order.
+     * @throws IllegalArgumentException if any hole cards or the board have the wrong size, or share a card with the board.
+     */
+    public int[] strengths(long[] holeCards, long board) {
+        for (long cards : holeCards) {
+            checkHoleCards(cards, board);
+        }
+        Board prepared = new Board(board);
+        int[] strengths = new int[holeCards.length];
+        for (int i = 0; i < holeCards.length; i++) {
+            strengths[i] = strength(holeCards[i], prepared);
+        }
+        return strengths;
+    }
+
+    /**
+     * Picks the five cards that form the best hand.
+     *
+     * @return The {@link PackedHand} of the best two hole cards and three board cards.
+     */
+    public long bestFive(long holeCards, long board) {
+        return bestFive(holeCards, board, strength(holeCards, board));
+    }
+
+    /**
+     * Determines the best {@link Combination} of two hole cards and three board cards.
+     */
+    public Combination evaluate(long holeCards, long board) {
+        int strength = strength(holeCards, board);
+        return LookupTableEvaluator.toCombination(strength, PackedHand.toCards(bestFive(holeCards, board, strength)));
+    }
+
+    private static void checkHoleCards(long holeCards, long board) {
+        if (PackedHand.size(holeCards) != HOLE_CARDS || !PackedHand.isValid(holeCards)) {
+            throw new IllegalArgumentException("Every Omaha player must have exactly " + HOLE_CARDS + " hole cards.");
+        }
+        int boardSize = PackedHand.size(board);
+        if (boardSize < MIN_BOARD_CARDS || boardSize > MAX_BOARD_CARDS || !PackedHand.isValid(board)) {
+            throw new IllegalArgumentException("Board must contain from 3 to 5 cards.");
+        }
+        if ((holeCards & board) != 0) {
+            throw new IllegalArgumentException("Hole cards and board cannot share cards.");
+        }
+    }
+
+    private static int strength(long holeCards, Board board) {
+        int[] cards = cardsOf(holeCards, HOLE_CARDS);
+        int[] pairRanks = new int[HOLE_PAIRS];
+        int[] pairProducts = new int[HOLE_PAIRS];
+        int pairs = 0;
+        int best = 0;
+        for (int i = 0; i < HOLE_CARDS; i++) {
+            for (int j = i + 1; j < HOLE_CARDS; j++) {
+                int ranks = 1 << PackedCard.rank(cards[i]) | 1 << PackedCard.rank(cards[j]);
+                int suit = PackedCard.suit(cards[i]);
+                if (suit == PackedCard.suit(cards[j])) {
+                    for (int t = 0; t < board.flushTriples; t++) {
+                        if (board.flushSuits[t] == suit) {
+                            best = Math.max(best, LookupTableEvaluator.strengthOf(ranks | board.flushRanks[t], 0, true));
+                        }
+                    }
+                }
+                int product = LookupTableEvaluator.prime(PackedCard.rank(cards[i])) * LookupTableEvaluator.prime(PackedCard.rank(cards[j]));
+                if (indexOf(pairProducts, pairs, product) < 0) {
+                    pairRanks[pairs] = ranks;
+                    pairProducts[pairs++] = product;
+                }
+            }
+        }
+        // Only a Full House or Four of a Kind beats a Flush, and both take a pair from the board
+        if (best != 0 && (!board.paired || HandStrength.handRanking(best) != HandRanking.FLUSH)) {
+            return best;
+        }
+        for (int p = 0; p < pairs; p++) {
+            for (int t = 0; t < board.triples; t++) {
+                best = Math.max(best, LookupTableEvaluator.strengthOf(pairRanks[p] | board.tripleRanks[t],
+                        pairProducts[p] * board.tripleProducts[t], false));
+            }
+        }
+        return best;
+    }
+
+    private static long bestFive(long holeCards, long board, int strength) {
+        int[] hole = cardsOf(holeCards, HOLE_CARDS);
+        int[] community = cardsOf(board, PackedHand.size(board));
+        for (int i = 0; i < hole.length; i++) {
+            for (int j = i + 1; j < hole.length; j++) {
+                for (int a = 0; a < community.length; a++) {
+                    for (int b = a + 1; b < community.length; b++) {
+                        for (int c = b + 1; c < community.length; c++) {
+                            if (LookupTableEvaluator.INSTANCE.strength(hole[i], hole[j], community[a], community[b], community[c]) == strength) {
+                                return PackedHand.of(hole[i], hole[j], community[a], community[b], community[c]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("Unexpected hand state");
+    }
+
+    private static int[] cardsOf(long hand, int count) {
+        int[] cards = new int[count];
+        long remaining = hand;
+        for (int i = 0; i < count; i++) {
+            cards[i] = PackedHand.firstCard(remaining);
+            remaining = PackedHand.remove(remaining, cards[i]);
+        }
+        return cards;
+    }
+
+    private static int indexOf(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The board triples that can make a different hand: one per distinct set of ranks, and the single-suited ones for flushes.
+     */
+    private static final class Board {
+
+        private final int[] tripleRanks = new int[MAX_BOARD_TRIPLES];
+        private final int[] tripleProducts = new int[MAX_BOARD_TRIPLES];
+        private final int[] flushRanks = new int[MAX_BOARD_TRIPLES];
+        private final int[] flushSuits = new int[MAX_BOARD_TRIPLES];
+        private final boolean paired;
+        private int triples;
+        private int flushTriples;
+
+        Board(long board) {
+            int size = PackedHand.size(board);
+            int[] cards = cardsOf(board, size);
+            paired = Integer.bitCount(PackedHand.ranks(board)) < size;
+            for (int a = 0; a < size; a++) {
+                for (int b = a + 1; b < size; b++) {
+                    for (int c = b + 1; c < size; c++) {
+                        int ranks = 1 << PackedCard.rank(cards[a]) | 1 << PackedCard.rank(cards[b]) | 1 << PackedCard.rank(cards[c]);
+                        int product = LookupTableEvaluator.prime(PackedCard.rank(cards[a]))
+                                * LookupTableEvaluator.prime(PackedCard.rank(cards[b]))
+                                * LookupTableEvaluator.prime(PackedCard.rank(cards[c]));
+                        if (indexOf(tripleProducts, triples, product) < 0) {
+                            tripleRanks[triples] = ranks;
+                            tripleProducts[triples++] = product;
+                        }
+                        int suit = PackedCard.suit(cards[a]);
+                        if (suit == PackedCard.suit(cards[b]) && suit == PackedCard.suit(cards[c])) {
+                            flushRanks[flushTriples] = ranks;
+                            flushSuits[flushTriples++] = suit;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
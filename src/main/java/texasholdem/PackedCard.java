@@ -0,0 +1,94 @@
+package texasholdem;
+
+/**
+ * Primitive encoding of a single card as an {@code int}.
+ *
+ * The rank index (0 for **TWO** up to 12 for **ACE**) is stored in bits 0-3
+ * and the suit index (the ordinal of {@link CardSuit}) in bits 4-5.
+ * The encoded value is also the position of the card's bit in a {@link PackedHand} mask.
+ */
+public final class PackedCard {
+
+    public static final int RANK_BITS = 4;
+    public static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    public static final int SUIT_MASK = 0b11;
+    public static final int DECK_SIZE = 52;
+
+    private static final CardRank[] RANKS = CardRank.values();
+    private static final CardSuit[] SUITS = CardSuit.values();
+
+    private PackedCard() {
+    }
+
+    public static int of(CardRank rank, CardSuit suit) {
+        return of(rank.ordinal(), suit.ordinal());
+    }
+
+    public static int of(Card card) {
+        return of(card.getRank(), card.getSuit());
+    }
+
+    /**
+     * @param rank The rank index, from 0 for **TWO** up to 12 for **ACE**.
+     * @param suit The suit index, the ordinal of {@link CardSuit}.
+     * @return The encoded card.
+     */
+    public static int of(int rank, int suit) {
+        return suit << RANK_BITS | rank;
+    }
+
+    /**
+     * @return The rank index of the card, from 0 for **TWO** up to 12 for **ACE**.
+     */
+    public static int rank(int card) {
+        return card & RANK_MASK;
+    }
+
+    /**
+     * @return The suit index of the card, the ordinal of its {@link CardSuit}.
+     */
+    public static int suit(int card) {
+        return card >>> RANK_BITS;
+    }
+
+    public static CardRank cardRank(int card) {
+        return RANKS[rank(card)];
+    }
+
+    public static CardSuit cardSuit(int card) {
+        return SUITS[suit(card)];
+    }
+
+    public static int weight(int card) {
+        return cardRank(card).getWeight();
+    }
+
+    /**
+     * Maps the card to a dense index from 0 to 51 (suit by suit, each from **TWO** to **ACE**).
+     */
+    public static int index(int card) {
+        return suit(card) * RANKS.length + rank(card);
+    }
+
+    /**
+     * The reverse of {@link #index(int)}.
+     */
+    public static int fromIndex(int index) {
+        return of(index % RANKS.length, index / RANKS.length);
+    }
+
+    public static boolean isValid(int card) {
+        return card >= 0 && rank(card) < RANKS.length && suit(card) < SUITS.length;
+    }
+
+    public static Card toCard(int card) {
+        if (!isValid(card)) {
+            throw new IllegalArgumentException("Invalid packed card: " + card);
+        }
+        return Card.of(cardRank(card), cardSuit(card));
+    }
+
+    public static String toString(int card) {
+        return "" + cardRank(card).getLetter() + cardSuit(card).getSuit();
+    }
+}
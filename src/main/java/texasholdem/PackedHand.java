@@ -0,0 +1,119 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Primitive encoding of a set of cards as a {@code long} bit mask.
+ *
+ * Every card sets the bit at the position of its {@link PackedCard} value, so each suit owns
+ * a 16-bit block and 13 bits of it (one per rank) are used: 52 possible bits in total.
+ * A suit's block, shifted down, is the bit mask of the ranks held in that suit.
+ */
+public final class PackedHand {
+
+    public static final long EMPTY = 0L;
+    public static final int SUIT_BLOCK_BITS = 16;
+    public static final int RANKS_MASK = 0x1FFF;
+    public static final long VALID_CARDS_MASK = 0x1FFF_1FFF_1FFF_1FFFL;
+
+    private static final int RANKS = CardRank.values().length;
+    private static final int SUITS = CardSuit.values().length;
+
+    private PackedHand() {
+    }
+
+    public static long of(int... cards) {
+        long hand = EMPTY;
+        for (int card : cards) {
+            hand = add(hand, card);
+        }
+        return hand;
+    }
+
+    public static long of(Collection<Card> cards) {
+        long hand = EMPTY;
+        for (Card card : cards) {
+            hand = add(hand, PackedCard.of(card));
+        }
+        return hand;
+    }
+
+    public static long of(PokerHand pokerHand) {
+        return of(pokerHand.getCards());
+    }
+
+    public static long add(long hand, int card) {
+        return hand | 1L << card;
+    }
+
+    public static long remove(long hand, int card) {
+        return hand & ~(1L << card);
+    }
+
+    public static boolean contains(long hand, int card) {
+        return (hand & 1L << card) != 0;
+    }
+
+    public static int size(long hand) {
+        return Long.bitCount(hand);
+    }
+
+    public static boolean isValid(long hand) {
+        return (hand & ~VALID_CARDS_MASK) == 0;
+    }
+
+    /**
+     * @return The bit mask of the ranks held in the given suit (bit 0 for **TWO** up to bit 12 for **ACE**).
+     */
+    public static int suitRanks(long hand, int suit) {
+        return (int) (hand >>> suit * SUIT_BLOCK_BITS) & RANKS_MASK;
+    }
+
+    /**
+     * @return The bit mask of the ranks held in any suit.
+     */
+    public static int ranks(long hand) {
+        long folded = hand | hand >>> (2 * SUIT_BLOCK_BITS);
+        folded |= folded >>> SUIT_BLOCK_BITS;
+        return (int) folded & RANKS_MASK;
+    }
+
+    /**
+     * @return The lowest card of the hand (in {@link PackedCard} order), or -1 if the hand is empty.
+     */
+    public static int firstCard(long hand) {
+        return hand == EMPTY ? -1 : Long.numberOfTrailingZeros(hand);
+    }
+
+    /**
+     * Decodes the hand into cards sorted from the highest to the lowest, in the same order as {@link PokerHand#getCards()}.
+     */
+    public static List<Card> toCards(long hand) {
+        List<Card> cards = new ArrayList<>(size(hand));
+        for (int rank = RANKS - 1; rank >= 0; rank--) {
+            for (int suit = 0; suit < SUITS; suit++) {
+                int card = PackedCard.of(rank, suit);
+                if (contains(hand, card)) {
+                    cards.add(PackedCard.toCard(card));
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Formats the hand in the input format of {@link PokerHand#PokerHand(String)}, e.g. "KS JD TD 5C 2H".
+     */
+    public static String toString(long hand) {
+        StringBuilder builder = new StringBuilder(3 * size(hand));
+        for (Card card : toCards(hand)) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(card);
+        }
+        return builder.toString();
+    }
+}
@@ -6,28 +6,74 @@ import java.util.stream.Collectors;
 
 public class PokerHand implements Comparable<PokerHand> {
 
-    private final List<Card> cards;
-    private final Combination combination;
+    private static final int UNKNOWN_STRENGTH = -1;
+
+    // In lazy mode only the packed cards are set up front; the other fields are filled in on first use.
+    // Every lazily computed value is immutable and always the same, so a race only repeats the work.
+    private final long packedCards;
+    private List<Card> cards;
+    private Combination combination;
+    private int strength;
 
     public PokerHand(String cardCombination) {
+        this(cardCombination, PokerHandEvaluator.INSTANCE);
+    }
+
+    public PokerHand(String cardCombination, HandEvaluator handEvaluator) {
         if (cardCombination == null || cardCombination.isBlank()) {
             throw new IllegalArgumentException("Card combination cannot be null or empty.");
         }
         this.cards = Arrays.stream(cardCombination.split(" "))
-                .map(Card::new)
+                .map(Card::of)
                 .sorted(Comparator.reverseOrder())
                 .toList();
 
         if (this.cards.size() != 5) {
             throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
         }
-        PokerHandEvaluator pokerHandEvaluator = new PokerHandEvaluator();
-        this.combination = pokerHandEvaluator.evaluate(this);
+        this.packedCards = PackedHand.EMPTY;
+        this.strength = UNKNOWN_STRENGTH;
+        this.combination = handEvaluator.evaluate(this);
+        this.strength = combination.getStrength();
+    }
+
+    private PokerHand(long packedCards) {
+        this.packedCards = packedCards;
+        this.strength = UNKNOWN_STRENGTH;
+    }
+
+    /**
+     * Creates a hand in lazy mode: parsing only keeps the packed cards (see {@link HandParser}),
+     * the strength is computed with {@link LookupTableEvaluator} on the first comparison,
+     * and the {@link Combination} with its card lists is built only when it is asked for.
+     *
+     * @param cardCombination Five distinct cards in the format of {@link #PokerHand(String)}.
+     * @throws IllegalArgumentException if the text is not a hand of five distinct valid cards.
+     */
+    public static PokerHand lazy(CharSequence cardCombination) {
+        if (cardCombination == null) {
+            throw new IllegalArgumentException("Card combination cannot be null or empty.");
+        }
+        return new PokerHand(HandParser.parse(cardCombination));
+    }
+
+    /**
+     * Creates a hand in lazy mode from a {@link PackedHand} of five cards.
+     *
+     * @see #lazy(CharSequence)
+     */
+    public static PokerHand lazy(long packedCards) {
+        if (PackedHand.size(packedCards) != 5 || !PackedHand.isValid(packedCards)) {
+            throw new IllegalArgumentException("Poker Hand must contain exactly 5 cards.");
+        }
+        return new PokerHand(packedCards);
     }
 
+    /**
+     * Orders hands from the strongest to the weakest by their {@link Combination#getStrength()}.
+     */
     public int compareTo(PokerHand other) {
-        PokerHandComparator comparator = new PokerHandComparator();
-        return comparator.compare(this, other);
+        return Integer.compare(other.getStrength(), this.getStrength());
     }
 
     CardSuit getSuit(Card card) {
@@ -39,7 +85,7 @@ public class PokerHand implements Comparable<PokerHand> {
     }
 
     private <E extends Enum<E>> Map<E, Integer> getCounts(Function<Card, E> function) {
-        return cards.stream()
+        return getCards().stream()
                 .map(function)
                 .collect(Collectors.toMap(
                         key -> key,
@@ -56,28 +102,52 @@ public class PokerHand implements Comparable<PokerHand> {
         return getCounts(this::getSuit);
     }
 
+    /**
+     * @return The cards sorted from the highest to the lowest. In lazy mode, cards of the same rank
+     *         are listed in the order of {@link CardSuit} rather than in the order they were given.
+     */
     public List<Card> getCards() {
+        if (cards == null) {
+            cards = List.copyOf(PackedHand.toCards(packedCards));
+        }
         return cards;
     }
 
     public Combination getCombination() {
+        if (combination == null) {
+            combination = LookupTableEvaluator.toCombination(getStrength(), getCards());
+        }
         return combination;
     }
 
     public boolean isCombination(HandRanking handRanking){
-        return combination.getHandRanking().equals(handRanking);
+        return HandStrength.handRanking(getStrength()).equals(handRanking);
     }
 
     public Integer getWeight(){
-        return combination.getWeight();
+        return getCombination().getWeight();
+    }
+
+    public int getStrength(){
+        if (strength == UNKNOWN_STRENGTH) {
+            strength = LookupTableEvaluator.INSTANCE.strength(packedCards);
+        }
+        return strength;
     }
 
     public List<Card> getCombinationCards(){
-        return combination.getCombination();
+        return getCombination().getCombination();
     }
 
     public List<Card> getKickerCards(){
-        return combination.getKickers();
+        return getCombination().getKickers();
+    }
+
+    /**
+     * @return true if the {@link Combination} has been built, which in lazy mode happens on first use.
+     */
+    boolean isEvaluated() {
+        return combination != null;
     }
 
     @Override
@@ -85,19 +155,19 @@ public class PokerHand implements Comparable<PokerHand> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         PokerHand pokerHand = (PokerHand) o;
-        return new HashSet<>(this.cards).equals(new HashSet<>(pokerHand.cards));
+        return new HashSet<>(this.getCards()).equals(new HashSet<>(pokerHand.getCards()));
     }
 
     @Override
     public int hashCode() {
-        return new HashSet<>(cards).hashCode();
+        return new HashSet<>(getCards()).hashCode();
     }
 
     @Override
     public String toString() {
         return "PokerHand{" +
-                "cards=" + cards +
-                ", " + combination +
+                "cards=" + getCards() +
+                ", " + getCombination() +
                 '}';
     }
 }
@@ -3,7 +3,15 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-public class PokerHandEvaluator {
+/**
+ * Determines the {@link Combination} of a hand from the counts of its ranks and suits.
+ *
+ * The evaluator has no state and can be shared between threads.
+ */
+public class PokerHandEvaluator implements HandEvaluator {
+
+    /** Default of {@link PokerHand} and {@link BatchHandEvaluator} when no evaluator is given. */
+    public static final PokerHandEvaluator INSTANCE = new PokerHandEvaluator();
 
     private static final List<Integer> WHEEL_STRAIGHT_RANKS = List.of(2, 3, 4, 5, 14);
     private static final Set<Character> ROYAL_FLUSH_RANKS = Set.of('A', 'K', 'Q', 'J', 'T');
@@ -44,6 +52,7 @@ public class PokerHandEvaluator {
      * @return A {@link Combination} object representing the highest-ranking combination.
      * @throws IllegalStateException if the hand is in an unexpected state.
      */
+    @Override
     public Combination evaluate(PokerHand pokerHand) {
         Map<CardRank, Integer> rankCounts = pokerHand.getRankCounts();
         int uniqueRanks = rankCounts.size();
@@ -135,7 +144,7 @@ public class PokerHandEvaluator {
     }
 
     private void sortWheelStraight(List<Card> combination) {
-        combination.replaceAll(card -> card.getRank() == CardRank.ACE ? new WheelStraightCard(card) : card);
+        combination.replaceAll(card -> card.getRank() == CardRank.ACE ? WheelStraightCard.of(card) : card);
         combination.sort(Collections.reverseOrder());
     }
 
@@ -0,0 +1,170 @@
+package texasholdem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Preflop all-in equities of every starting hand class, and optionally of every hole card combination,
+ * against every other, loaded from a file written by {@link PreflopTableGenerator}.
+ *
+ * The 169 classes are the cells of the usual 13 by 13 grid: row {@code r} and column {@code c} hold the pair
+ * for {@code r == c}, the suited hand of ranks {@code r} and {@code c} above the diagonal and the offsuit hand below it,
+ * with rank indexes starting from {@link CardRank#TWO}. The 1326 combinations are numbered in colex order of
+ * their two card indexes (see {@link PackedCard#index}).
+ *
+ * The file starts with a header of {@value #HEADER_BYTES} bytes: the magic number {@code "PFEQ"}, the format version,
+ * the layout flags, and one byte per class row that is set once the row is complete. Then come the class table and,
+ * if present, the combination table, as big-endian floats in row-major order: the equity of the row against the column.
+ * The file is memory-mapped, so loading takes no time and a lookup is a single read.
+ */
+public final class PreflopEquityTable {
+
+    public static final int CLASSES = 169;
+    public static final int COMBOS = 1326;
+
+    static final int MAGIC = 0x50464551;
+    static final int VERSION = 1;
+    static final int HAS_COMBOS = 1;
+    static final int ROW_FLAGS_OFFSET = 3 * Integer.BYTES;
+    static final int HEADER_BYTES = 256;
+    static final long CLASS_TABLE_OFFSET = HEADER_BYTES;
+    static final long COMBO_TABLE_OFFSET = CLASS_TABLE_OFFSET + (long) CLASSES * CLASSES * Float.BYTES;
+
+    private static final int RANKS = CardRank.values().length;
+    private static final char[] RANK_LETTERS = new char[RANKS];
+
+    static {
+        for (CardRank rank : CardRank.values()) {
+            RANK_LETTERS[rank.ordinal()] = rank.getLetter();
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final boolean combos;
+
+    private PreflopEquityTable(ByteBuffer buffer, boolean combos) {
+        this.buffer = buffer;
+        this.combos = combos;
+    }
+
+    /**
+     * Memory-maps a complete table.
+     *
+     * @throws IOException if the file cannot be read, is not a preflop table or is not complete.
+     */
+    public static PreflopEquityTable load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < COMBO_TABLE_OFFSET) {
+                throw new IOException("Not a preflop equity table: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Not a preflop equity table: " + path);
+            }
+            boolean combos = (buffer.getInt(2 * Integer.BYTES) & HAS_COMBOS) != 0;
+            if (channel.size() != size(combos)) {
+                throw new IOException("Preflop equity table has an unexpected size: " + path);
+            }
+            for (int row = 0; row < CLASSES; row++) {
+                if (buffer.get(ROW_FLAGS_OFFSET + row) == 0) {
+                    throw new IOException("Preflop equity table is not complete: " + path);
+                }
+            }
+            return new PreflopEquityTable(buffer, combos);
+        }
+    }
+
+    static long size(boolean combos) {
+        return combos ? COMBO_TABLE_OFFSET + (long) COMBOS * COMBOS * Float.BYTES : COMBO_TABLE_OFFSET;
+    }
+
+    /**
+     * @return true if the table holds the equities of single combinations.
+     */
+    public boolean hasCombos() {
+        return combos;
+    }
+
+    /**
+     * @return The equity of the hero class against the villain class, averaged over all their combinations that share no card.
+     */
+    public double equity(int heroClass, int villainClass) {
+        return buffer.getFloat((int) CLASS_TABLE_OFFSET + (heroClass * CLASSES + villainClass) * Float.BYTES);
+    }
+
+    /**
+     * @param heroCards The {@link PackedHand} of the hero's two hole cards.
+     * @param villainCards The {@link PackedHand} of the villain's two hole cards.
+     * @return The exact equity of the combinations if the table holds them (NaN if they share a card),
+     *         otherwise the equity of their classes.
+     */
+    public double equity(long heroCards, long villainCards) {
+        if (!combos) {
+            return equity(classOf(heroCards), classOf(villainCards));
+        }
+        long cell = (long) comboOf(heroCards) * COMBOS + comboOf(villainCards);
+        return buffer.getFloat((int) (COMBO_TABLE_OFFSET + cell * Float.BYTES));
+    }
+
+    /**
+     * @param holeCards The {@link PackedHand} of two hole cards.
+     * @return The index of the starting hand class.
+     * @throws IllegalArgumentException if the hand does not hold two valid cards.
+     */
+    public static int classOf(long holeCards) {
+        checkHoleCards(holeCards);
+        int first = PackedHand.firstCard(holeCards);
+        int second = PackedHand.firstCard(PackedHand.remove(holeCards, first));
+        int high = Math.max(PackedCard.rank(first), PackedCard.rank(second));
+        int low = Math.min(PackedCard.rank(first), PackedCard.rank(second));
+        boolean suited = PackedCard.suit(first) == PackedCard.suit(second);
+        return suited ? low * RANKS + high : high * RANKS + low;
+    }
+
+    /**
+     * @return The name of the class, such as {@code "AA"}, {@code "AKs"} or {@code "AKo"}.
+     */
+    public static String className(int classIndex) {
+        int row = classIndex / RANKS;
+        int column = classIndex % RANKS;
+        if (row == column) {
+            return "" + RANK_LETTERS[row] + RANK_LETTERS[row];
+        }
+        return "" + RANK_LETTERS[Math.max(row, column)] + RANK_LETTERS[Math.min(row, column)] + (row < column ? 's' : 'o');
+    }
+
+    /**
+     * @param holeCards The {@link PackedHand} of two hole cards.
+     * @return The index of the combination, from 0 to 1325.
+     * @throws IllegalArgumentException if the hand does not hold two valid cards.
+     */
+    public static int comboOf(long holeCards) {
+        checkHoleCards(holeCards);
+        int first = PackedHand.firstCard(holeCards);
+        int second = PackedHand.firstCard(PackedHand.remove(holeCards, first));
+        int low = Math.min(PackedCard.index(first), PackedCard.index(second));
+        int high = Math.max(PackedCard.index(first), PackedCard.index(second));
+        return high * (high - 1) / 2 + low;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the combination.
+     */
+    public static long combo(int comboIndex) {
+        int high = 1;
+        while ((high + 1) * high / 2 <= comboIndex) {
+            high++;
+        }
+        int low = comboIndex - high * (high - 1) / 2;
+        return PackedHand.of(PackedCard.fromIndex(low), PackedCard.fromIndex(high));
+    }
+
+    private static void checkHoleCards(long holeCards) {
+        if (PackedHand.size(holeCards) != EquitySpot.HOLE_CARDS || !PackedHand.isValid(holeCards)) {
+            throw new IllegalArgumentException("Every player must have exactly 2 hole cards.");
+        }
+    }
+}
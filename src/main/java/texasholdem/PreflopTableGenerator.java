@@ -0,0 +1,229 @@
+package texasholdem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Computes the preflop all-in equities of {@link PreflopEquityTable} and writes them to a file.
+ *
+ * The equity of every pair of combinations is exact, over all 1,712,304 boards. Matchups that differ only
+ * by a renaming of suits have the same equity, so each is computed once and kept for the rest of the run,
+ * together with the equity of the reversed matchup; this leaves about 47,000 of the 812,175 matchups to compute.
+ *
+ * The rows of the class table are computed in parallel on a {@link ForkJoinPool}. A row is written together with
+ * the rows of the combination table for its combinations, flushed, and only then marked complete in the header,
+ * so a run that is stopped can be started again on the same file and computes only the rows that are missing.
+ */
+public class PreflopTableGenerator {
+
+    private static final int CARD_INDEX_BITS = 6;
+
+    private final ForkJoinPool pool;
+    private final MatchupEquity matchupEquity;
+    private final Map<Long, Double> equities = new ConcurrentHashMap<>();
+
+    public PreflopTableGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public PreflopTableGenerator(ForkJoinPool pool) {
+        this(pool, (hero, villain) -> ExactEquityCalculator.calculateInCurrentThread(new long[]{hero, villain}, PackedHand.EMPTY)
+                .getEquity(0));
+    }
+
+    PreflopTableGenerator(ForkJoinPool pool, MatchupEquity matchupEquity) {
+        this.pool = pool;
+        this.matchupEquity = matchupEquity;
+    }
+
+    /**
+     * Equity of the first hole cards against the second ones.
+     */
+    interface MatchupEquity {
+        double equity(long hero, long villain);
+    }
+
+    /**
+     * Computes the rows of the table that the file does not hold yet, creating the file if it does not exist.
+     *
+     * @param path The file of the table.
+     * @param withCombos Whether to write the table of combinations as well as the table of classes.
+     * @return The number of class rows computed by this run.
+     * @throws IOException if the file cannot be written, or holds something else than a table of the same layout.
+     */
+    public int generate(Path path, boolean withCombos) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            byte[] rowFlags = openTable(channel, path, withCombos);
+            AtomicBoolean failed = new AtomicBoolean();
+            List<ForkJoinTask<?>> rows = new ArrayList<>();
+            for (int row = 0; row < PreflopEquityTable.CLASSES; row++) {
+                if (rowFlags[row] == 0) {
+                    int heroClass = row;
+                    rows.add(pool.submit(() -> writeRow(channel, heroClass, withCombos, failed)));
+                }
+            }
+            try {
+                for (ForkJoinTask<?> row : rows) {
+                    row.join();
+                }
+            } catch (RuntimeException e) {
+                // Rows that have started stop at their next matchup; the channel is only closed once they did
+                failed.set(true);
+                for (ForkJoinTask<?> row : rows) {
+                    row.cancel(false);
+                }
+                for (ForkJoinTask<?> row : rows) {
+                    row.quietlyJoin();
+                }
+                if (e instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                throw e;
+            }
+            return rows.size();
+        }
+    }
+
+    private static byte[] openTable(FileChannel channel, Path path, boolean withCombos) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(PreflopEquityTable.HEADER_BYTES);
+        int flags = withCombos ? PreflopEquityTable.HAS_COMBOS : 0;
+        if (channel.size() == 0) {
+            header.putInt(PreflopEquityTable.MAGIC).putInt(PreflopEquityTable.VERSION).putInt(flags).clear();
+            write(channel, header, 0);
+            write(channel, ByteBuffer.allocate(1), PreflopEquityTable.size(withCombos) - 1);
+            channel.force(true);
+        } else {
+            read(channel, header, 0);
+            if (header.getInt(0) != PreflopEquityTable.MAGIC || header.getInt(Integer.BYTES) != PreflopEquityTable.VERSION
+                    || header.getInt(2 * Integer.BYTES) != flags || channel.size() != PreflopEquityTable.size(withCombos)) {
+                throw new IOException("File holds something else than a preflop equity table of this layout: " + path);
+            }
+        }
+        byte[] rowFlags = new byte[PreflopEquityTable.CLASSES];
+        header.get(PreflopEquityTable.ROW_FLAGS_OFFSET, rowFlags);
+        return rowFlags;
+    }
+
+    /**
+     * Computes and writes one row, unless another row fails first: then it returns without marking the row complete.
+     */
+    private void writeRow(FileChannel channel, int heroClass, boolean withCombos, AtomicBoolean failed) {
+        double[] classEquities = new double[PreflopEquityTable.CLASSES];
+        int[] classMatchups = new int[PreflopEquityTable.CLASSES];
+        ByteBuffer comboRow = ByteBuffer.allocate(PreflopEquityTable.COMBOS * Float.BYTES);
+        try {
+            for (int hero = 0; hero < PreflopEquityTable.COMBOS; hero++) {
+                long heroCards = PreflopEquityTable.combo(hero);
+                if (PreflopEquityTable.classOf(heroCards) != heroClass) {
+                    continue;
+                }
+                comboRow.clear();
+                for (int villain = 0; villain < PreflopEquityTable.COMBOS; villain++) {
+                    if (failed.get()) {
+                        return;
+                    }
+                    long villainCards = PreflopEquityTable.combo(villain);
+                    if ((heroCards & villainCards) != 0) {
+                        comboRow.putFloat(Float.NaN);
+                        continue;
+                    }
+                    double equity = equity(heroCards, villainCards);
+                    int villainClass = PreflopEquityTable.classOf(villainCards);
+                    classEquities[villainClass] += equity;
+                    classMatchups[villainClass]++;
+                    comboRow.putFloat((float) equity);
+                }
+                if (withCombos) {
+                    write(channel, comboRow.flip(), PreflopEquityTable.COMBO_TABLE_OFFSET
+                            + (long) hero * PreflopEquityTable.COMBOS * Float.BYTES);
+                }
+            }
+            ByteBuffer classRow = ByteBuffer.allocate(PreflopEquityTable.CLASSES * Float.BYTES);
+            for (int villainClass = 0; villainClass < PreflopEquityTable.CLASSES; villainClass++) {
+                classRow.putFloat((float) (classEquities[villainClass] / classMatchups[villainClass]));
+            }
+            write(channel, classRow.flip(), PreflopEquityTable.CLASS_TABLE_OFFSET
+                    + (long) heroClass * PreflopEquityTable.CLASSES * Float.BYTES);
+            channel.force(false);
+            write(channel, ByteBuffer.wrap(new byte[]{1}), PreflopEquityTable.ROW_FLAGS_OFFSET + heroClass);
+            channel.force(false);
+        } catch (IOException e) {
+            failed.set(true);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    double equity(long hero, long villain) {
+        long key = matchupKey(hero, villain);
+        Double known = equities.get(key);
+        if (known != null) {
+            return known;
+        }
+        double equity = matchupEquity.equity(hero, villain);
+        equities.put(key, equity);
+        equities.put(matchupKey(villain, hero), 1 - equity);
+        return equity;
+    }
+
+    /**
+     * @return The same key for all matchups that differ only by a renaming of suits.
+     */
+    static long matchupKey(long hero, long villain) {
+        int[] suitKeys = new int[CardSuit.values().length];
+        for (int suit = 0; suit < suitKeys.length; suit++) {
+            suitKeys[suit] = PackedHand.suitRanks(hero, suit) << PackedHand.SUIT_BLOCK_BITS | PackedHand.suitRanks(villain, suit);
+        }
+        // Suits with the same cards of both players are interchangeable, so sorting the keys gives the canonical renaming
+        int[] order = {0, 1, 2, 3};
+        for (int i = 1; i < order.length; i++) {
+            for (int j = i; j > 0 && suitKeys[order[j - 1]] < suitKeys[order[j]]; j--) {
+                int t = order[j];
+                order[j] = order[j - 1];
+                order[j - 1] = t;
+            }
+        }
+        long key = 0;
+        for (long cards : new long[]{hero, villain}) {
+            for (int suit = 0; suit < order.length; suit++) {
+                int ranks = PackedHand.suitRanks(cards, order[suit]);
+                while (ranks != 0) {
+                    int rank = Integer.numberOfTrailingZeros(ranks);
+                    key = key << CARD_INDEX_BITS | PackedCard.index(PackedCard.of(rank, suit));
+                    ranks &= ranks - 1;
+                }
+            }
+        }
+        return key;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Preflop equity table ended unexpectedly.");
+            }
+            position += read;
+        }
+    }
+}
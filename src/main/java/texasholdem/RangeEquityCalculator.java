@@ -0,0 +1,218 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Calculates the equity of one {@link HandRange} against another, for every pair of combinations.
+ *
+ * The calculation walks the complete boards instead of the pairs: on every board each combination
+ * of both ranges is rated once with {@link SevenCardEvaluator}, and the two arrays of strengths are then
+ * compared for every pair that shares no card. A pair is scored only on the boards that hold none of its
+ * four cards, so card removal between the ranges and the board is exact.
+ *
+ * When the missing board cards can be dealt in no more than the board limit of ways, every board is enumerated
+ * and the result is exact. Otherwise the limit is the number of boards sampled. The boards are split evenly
+ * between the workers of a {@link ForkJoinPool}, each with its own tallies, and the tallies are added up at the end.
+ */
+public class RangeEquityCalculator {
+
+    static final int DEFAULT_MAX_BOARDS = 20_000;
+    // Bounds the memory of the per-worker tallies when both ranges are wide
+    private static final long MAX_TALLY_CELLS = 32L * 1024 * 1024;
+    private static final int BLOCKED = -1;
+
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+    private final int maxBoards;
+
+    public RangeEquityCalculator() {
+        this(ForkJoinPool.commonPool(), new SplittableRandom(), DEFAULT_MAX_BOARDS);
+    }
+
+    /**
+     * @param pool The pool that rates the boards.
+     * @param random The source of the sampled boards; a fixed seed makes results reproducible.
+     * @param maxBoards The largest number of boards to enumerate, and the number of boards to sample beyond that.
+     */
+    public RangeEquityCalculator(ForkJoinPool pool, SplittableRandom random, int maxBoards) {
+        if (maxBoards <= 0) {
+            throw new IllegalArgumentException("Number of boards must be positive.");
+        }
+        this.pool = pool;
+        this.random = random;
+        this.maxBoards = maxBoards;
+    }
+
+    /**
+     * @param hero The range whose equity is calculated.
+     * @param villain The opposing range.
+     * @param board The {@link PackedHand} of the board dealt so far (0 to 5 cards); combinations holding any of its cards are dropped.
+     * @return The equity of every hero combination against every villain combination.
+     * @throws IllegalArgumentException if the board is invalid or no pair of combinations can meet on it.
+     */
+    public RangeEquityResult calculate(HandRange hero, HandRange villain, long board) {
+        if (PackedHand.size(board) > EquitySpot.BOARD_CARDS || !PackedHand.isValid(board)) {
+            throw new IllegalArgumentException("Board cannot contain more than 5 cards.");
+        }
+        HandRange liveHero = hero.without(board);
+        HandRange liveVillain = villain.without(board);
+        if (!canMeet(liveHero, liveVillain)) {
+            throw new IllegalArgumentException("No combination of one range can meet a combination of the other.");
+        }
+        int[] deck = new int[PackedCard.DECK_SIZE - PackedHand.size(board)];
+        int position = 0;
+        for (int index = 0; index < PackedCard.DECK_SIZE; index++) {
+            int card = PackedCard.fromIndex(index);
+            if (!PackedHand.contains(board, card)) {
+                deck[position++] = card;
+            }
+        }
+        int missing = EquitySpot.BOARD_CARDS - PackedHand.size(board);
+        long boards = boards(deck.length, missing);
+        boolean exact = boards <= maxBoards;
+        long[] completeBoards = exact ? enumerate(deck, missing, board, (int) boards) : sample(deck, missing, board);
+
+        List<ForkJoinTask<Tally>> tasks = new ArrayList<>();
+        long pairs = (long) liveHero.size() * liveVillain.size();
+        int parts = (int) Math.max(1, Math.min(Math.min(pool.getParallelism(), completeBoards.length), MAX_TALLY_CELLS / pairs));
+        for (int part = 0; part < parts; part++) {
+            int from = (int) ((long) completeBoards.length * part / parts);
+            int to = (int) ((long) completeBoards.length * (part + 1) / parts);
+            tasks.add(pool.submit(() -> score(liveHero, liveVillain, completeBoards, from, to)));
+        }
+        Tally total = null;
+        for (ForkJoinTask<Tally> task : tasks) {
+            Tally tally = task.join();
+            total = total == null ? tally : total.merge(tally);
+        }
+        return total.toResult(liveHero, liveVillain, completeBoards.length, exact);
+    }
+
+    private static boolean canMeet(HandRange hero, HandRange villain) {
+        for (int h = 0; h < hero.size(); h++) {
+            for (int v = 0; v < villain.size(); v++) {
+                if ((hero.combo(h) & villain.combo(v)) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long boards(int deck, int missing) {
+        long boards = 1;
+        for (int i = 0; i < missing; i++) {
+            boards = boards * (deck - i) / (i + 1);
+        }
+        return boards;
+    }
+
+    private static long[] enumerate(int[] deck, int missing, long board, int count) {
+        long[] boards = new long[count];
+        enumerate(deck, 0, missing, board, boards, 0);
+        return boards;
+    }
+
+    private static int enumerate(int[] deck, int from, int missing, long board, long[] boards, int position) {
+        if (missing == 0) {
+            boards[position] = board;
+            return position + 1;
+        }
+        for (int i = from; i <= deck.length - missing; i++) {
+            position = enumerate(deck, i + 1, missing - 1, PackedHand.add(board, deck[i]), boards, position);
+        }
+        return position;
+    }
+
+    private long[] sample(int[] deck, int missing, long board) {
+        SplittableRandom boardRandom = splitRandom();
+        int[] cards = deck.clone();
+        long[] boards = new long[maxBoards];
+        for (int b = 0; b < boards.length; b++) {
+            long completeBoard = board;
+            // Partial Fisher-Yates shuffle: only the missing cards are drawn
+            for (int i = 0; i < missing; i++) {
+                int j = i + boardRandom.nextInt(cards.length - i);
+                int card = cards[j];
+                cards[j] = cards[i];
+                cards[i] = card;
+                completeBoard = PackedHand.add(completeBoard, card);
+            }
+            boards[b] = completeBoard;
+        }
+        return boards;
+    }
+
+    private synchronized SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    private static Tally score(HandRange hero, HandRange villain, long[] boards, int from, int to) {
+        Tally tally = new Tally(hero.size(), villain.size());
+        int[] heroStrengths = new int[hero.size()];
+        int[] villainStrengths = new int[villain.size()];
+        for (int b = from; b < to; b++) {
+            long board = boards[b];
+            rate(hero, board, heroStrengths);
+            rate(villain, board, villainStrengths);
+            for (int h = 0; h < heroStrengths.length; h++) {
+                int heroStrength = heroStrengths[h];
+                if (heroStrength == BLOCKED) {
+                    continue;
+                }
+                long heroCards = hero.combo(h);
+                int row = h * villainStrengths.length;
+                for (int v = 0; v < villainStrengths.length; v++) {
+                    int villainStrength = villainStrengths[v];
+                    if (villainStrength == BLOCKED || (heroCards & villain.combo(v)) != 0) {
+                        continue;
+                    }
+                    tally.boards[row + v]++;
+                    tally.points[row + v] += heroStrength > villainStrength ? 2 : heroStrength == villainStrength ? 1 : 0;
+                }
+            }
+        }
+        return tally;
+    }
+
+    private static void rate(HandRange range, long board, int[] strengths) {
+        for (int i = 0; i < strengths.length; i++) {
+            long combo = range.combo(i);
+            strengths[i] = (combo & board) != 0 ? BLOCKED : SevenCardEvaluator.strengthOf(combo | board);
+        }
+    }
+
+    /**
+     * Boards and points (2 for a win, 1 for a tie) of every pair of combinations, hero-major.
+     */
+    private static final class Tally {
+
+        private final int[] boards;
+        private final int[] points;
+
+        Tally(int heroCombos, int villainCombos) {
+            this.boards = new int[heroCombos * villainCombos];
+            this.points = new int[heroCombos * villainCombos];
+        }
+
+        Tally merge(Tally other) {
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] += other.boards[i];
+                points[i] += other.points[i];
+            }
+            return this;
+        }
+
+        RangeEquityResult toResult(HandRange hero, HandRange villain, int totalBoards, boolean exact) {
+            double[] equities = new double[boards.length];
+            for (int i = 0; i < boards.length; i++) {
+                equities[i] = boards[i] == 0 ? Double.NaN : points[i] / (2.0 * boards[i]);
+            }
+            return new RangeEquityResult(hero, villain, equities, totalBoards, exact);
+        }
+    }
+}
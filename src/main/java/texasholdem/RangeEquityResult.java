@@ -0,0 +1,101 @@
+package texasholdem;
+
+/**
+ * Equity of every combination of the hero {@link HandRange} against every combination of the villain range.
+ *
+ * The equity of a pair is the share of the pot the hero combination wins on average on the boards both can meet on:
+ * a win counts as 1 and a tie as 1/2. Aggregated equities weigh every pair by the product of the weights of its
+ * combinations and skip the pairs that share a card.
+ */
+public class RangeEquityResult {
+
+    private final HandRange hero;
+    private final HandRange villain;
+    private final double[] equities;
+    private final int boards;
+    private final boolean exact;
+
+    RangeEquityResult(HandRange hero, HandRange villain, double[] equities, int boards, boolean exact) {
+        this.hero = hero;
+        this.villain = villain;
+        this.equities = equities;
+        this.boards = boards;
+        this.exact = exact;
+    }
+
+    /**
+     * @return The hero range without the combinations blocked by the board; its indexes are the rows of the result.
+     */
+    public HandRange getHeroRange() {
+        return hero;
+    }
+
+    /**
+     * @return The villain range without the combinations blocked by the board; its indexes are the columns of the result.
+     */
+    public HandRange getVillainRange() {
+        return villain;
+    }
+
+    /**
+     * @return The number of complete boards the result is based on (sampled or enumerated).
+     */
+    public int getBoards() {
+        return boards;
+    }
+
+    /**
+     * @return true if every possible board was enumerated.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * @return The equity of the hero combination against the villain combination, or NaN if they share a card.
+     */
+    public double getEquity(int heroCombo, int villainCombo) {
+        return equities[heroCombo * villain.size() + villainCombo];
+    }
+
+    /**
+     * @return The equity of the hero combination against the whole villain range, or NaN if it meets none of it.
+     */
+    public double getEquity(int heroCombo) {
+        double weights = 0;
+        double equity = 0;
+        for (int v = 0; v < villain.size(); v++) {
+            double pairEquity = getEquity(heroCombo, v);
+            if (!Double.isNaN(pairEquity)) {
+                weights += villain.weight(v);
+                equity += villain.weight(v) * pairEquity;
+            }
+        }
+        return weights == 0 ? Double.NaN : equity / weights;
+    }
+
+    /**
+     * @return The equity of the hero range against the villain range.
+     */
+    public double getEquity() {
+        double weights = 0;
+        double equity = 0;
+        for (int h = 0; h < hero.size(); h++) {
+            for (int v = 0; v < villain.size(); v++) {
+                double pairEquity = getEquity(h, v);
+                if (!Double.isNaN(pairEquity)) {
+                    double weight = hero.weight(h) * villain.weight(v);
+                    weights += weight;
+                    equity += weight * pairEquity;
+                }
+            }
+        }
+        return equity / weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RangeEquityResult{hero=%d combos, villain=%d combos, boards=%d, exact=%b, equity=%.4f}",
+                hero.size(), villain.size(), boards, exact, getEquity());
+    }
+}
@@ -0,0 +1,320 @@
+package texasholdem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embeddable TCP server that ranks hands for other processes on the same host.
+ *
+ * The protocol is line based: a client sends hands in the {@link PokerHand} input format, one per line, and gets one
+ * line back for each, in the same order: the strength and the {@link HandRanking} ({@code "1183744 ONE_PAIR"}),
+ * or {@code "ERROR"} and the reason. A client may send any number of lines before reading the answers.
+ *
+ * Every connection is served by its own thread: a virtual thread where the runtime has them, otherwise a thread of
+ * a cached pool. The thread parses every line it can read without waiting into a {@link PackedHand} and hands them
+ * over as one group. Batch workers take the groups waiting at that moment, until the batch limit is reached, and rate them
+ * together with {@link LookupTableEvaluator}, so concurrent requests are answered in micro-batches rather than one by one.
+ * The answers of a group are written and flushed at once.
+ */
+public class RankingServer implements Closeable {
+
+    static final int DEFAULT_MAX_BATCH_HANDS = 4096;
+    private static final int MAX_LINE_BYTES = 256;
+    private static final int IO_BUFFER_BYTES = 16 * 1024;
+    private static final int END_OF_STREAM = -1;
+    private static final int TOO_LONG = -2;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final List<Thread> workers = new ArrayList<>();
+    private final BlockingQueue<Group> queue = new LinkedBlockingQueue<>();
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final int maxBatchHands;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Starts a server on the loopback address.
+     *
+     * @param port The port to listen on, or 0 for any free port (see {@link #getPort()}).
+     */
+    public static RankingServer start(int port) throws IOException {
+        return new RankingServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 4), DEFAULT_MAX_BATCH_HANDS);
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param address The address to listen on.
+     * @param batchWorkers The number of threads rating the batches.
+     * @param maxBatchHands The number of hands after which a batch takes no more groups, and the largest group of a connection.
+     * @throws IOException if the address cannot be bound.
+     */
+    public RankingServer(InetSocketAddress address, int batchWorkers, int maxBatchHands) throws IOException {
+        if (batchWorkers < 1 || maxBatchHands < 1) {
+            throw new IllegalArgumentException("Server needs at least one batch worker and room for one hand in a batch.");
+        }
+        this.maxBatchHands = maxBatchHands;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        this.connections = newConnectionExecutor();
+        for (int i = 0; i < batchWorkers; i++) {
+            workers.add(startThread("ranking-batch-" + i, this::rateBatches));
+        }
+        workers.add(startThread("ranking-accept", this::accept));
+    }
+
+    // Virtual threads arrived in Java 21; earlier runtimes fall back to a cached pool of platform threads
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "ranking-connection-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static Thread startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return The number of hands answered so far, including the invalid ones; hands are counted just before their answers are sent.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return The number of batches rated so far; each batch holds the groups of one or more connections.
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                try {
+                    connections.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    // close() shut the connection pool down right after this connection was accepted
+                    sockets.remove(socket);
+                    socket.close();
+                }
+            } catch (IOException e) {
+                // A failed accept only concerns the client that tried to connect; after close() the loop ends
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream(), IO_BUFFER_BYTES);
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream(), IO_BUFFER_BYTES)) {
+            byte[] line = new byte[MAX_LINE_BYTES];
+            Group group = new Group(maxBatchHands);
+            while (!closed) {
+                group.clear();
+                // Block for the first line only; the rest of the group is whatever has already arrived
+                do {
+                    int length = readLine(in, line);
+                    if (length == END_OF_STREAM) {
+                        break;
+                    }
+                    group.add(line, length);
+                } while (group.size < maxBatchHands && in.available() > 0);
+                if (group.size == 0) {
+                    return;
+                }
+                if (group.pending > 0) {
+                    queue.add(group);
+                    group.await();
+                }
+                // Counted before answering, so a client that has read its answers sees them counted
+                requests.add(group.size);
+                group.writeAnswers(out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client went away; nothing is left to answer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sockets.remove(socket);
+        }
+    }
+
+    /**
+     * @return The length of the line without its end, TOO_LONG, or END_OF_STREAM.
+     */
+    private static int readLine(InputStream in, byte[] line) throws IOException {
+        int length = 0;
+        int next;
+        while ((next = in.read()) != '\n') {
+            if (next < 0) {
+                return length == 0 ? END_OF_STREAM : length > line.length ? TOO_LONG : length;
+            }
+            if (length < line.length) {
+                line[length] = (byte) next;
+            }
+            length++;
+        }
+        if (length > 0 && length <= line.length && line[length - 1] == '\r') {
+            length--;
+        }
+        return length > line.length ? TOO_LONG : length;
+    }
+
+    private void rateBatches() {
+        List<Group> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            int hands = batch.get(0).size;
+            Group next;
+            while (hands < maxBatchHands && (next = queue.poll()) != null) {
+                batch.add(next);
+                hands += next.size;
+            }
+            for (Group group : batch) {
+                group.rate();
+            }
+            batches.increment();
+            for (Group group : batch) {
+                group.done();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops accepting connections, closes the open ones and stops the workers.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            serverSocket.close();
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            connections.shutdownNow();
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    /**
+     * The hands read from one connection in one go and their answers.
+     * A group is reused by its connection once its answers are written.
+     */
+    private static final class Group {
+
+        private final long[] hands;
+        private final int[] strengths;
+        private final String[] errors;
+        private int size;
+        private int pending;
+        private CountDownLatch rated;
+
+        Group(int capacity) {
+            this.hands = new long[capacity];
+            this.strengths = new int[capacity];
+            this.errors = new String[capacity];
+        }
+
+        void clear() {
+            size = 0;
+            pending = 0;
+            rated = new CountDownLatch(1);
+        }
+
+        void add(byte[] line, int length) {
+            hands[size] = PackedHand.EMPTY;
+            errors[size] = null;
+            if (length == TOO_LONG) {
+                errors[size] = "Line cannot be longer than " + MAX_LINE_BYTES + " characters.";
+            } else {
+                try {
+                    hands[size] = HandParser.parse(line, 0, length);
+                    pending++;
+                } catch (IllegalArgumentException e) {
+                    errors[size] = e.getMessage();
+                }
+            }
+            size++;
+        }
+
+        void rate() {
+            for (int i = 0; i < size; i++) {
+                if (errors[i] == null) {
+                    strengths[i] = LookupTableEvaluator.INSTANCE.strength(hands[i]);
+                }
+            }
+        }
+
+        void done() {
+            rated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            rated.await();
+        }
+
+        void writeAnswers(OutputStream out) throws IOException {
+            StringBuilder answers = new StringBuilder(size * 24);
+            for (int i = 0; i < size; i++) {
+                if (errors[i] != null) {
+                    answers.append("ERROR ").append(errors[i].replace('\n', ' '));
+                } else {
+                    answers.append(strengths[i]).append(' ').append(HandStrength.handRanking(strengths[i]));
+                }
+                answers.append('\n');
+            }
+            out.write(answers.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package texasholdem;
+
+/**
+ * Finds the best five-card hand among five to seven cards, e.g. two hole cards and a five-card board.
+ *
+ * Instead of rating every five-card subset, the evaluator works on the rank masks of a {@link PackedHand}:
+ * intersecting the four suit masks gives the ranks held at least twice, three times and four times,
+ * and two tables indexed by a 13-bit rank mask give the highest straight and the five highest ranks.
+ * The result is the packed strength (see {@link HandStrength}) of the best five cards,
+ * equal to what {@link LookupTableEvaluator} returns for those five cards, so strengths of
+ * five-card and seven-card hands can be compared directly.
+ *
+ * The evaluator has no state and can be shared between threads.
+ */
+public class SevenCardEvaluator {
+
+    public static final int MIN_CARDS = 5;
+    public static final int MAX_CARDS = 7;
+
+    private static final CardRank[] RANKS = CardRank.values();
+    private static final int SUITS = CardSuit.values().length;
+    private static final int ACE = CardRank.ACE.ordinal();
+    private static final int WHEEL_HIGH_WEIGHT = CardRank.FIVE.getWeight();
+    private static final int RANK_SHIFT = HandStrength.RANK_BITS;
+
+    private static final int HIGH_CARD = category(HandRanking.HIGH_CARD);
+    private static final int ONE_PAIR = category(HandRanking.ONE_PAIR);
+    private static final int TWO_PAIR = category(HandRanking.TWO_PAIR);
+    private static final int SET = category(HandRanking.SET);
+    private static final int STRAIGHT = category(HandRanking.STRAIGHT);
+    private static final int FLUSH = category(HandRanking.FLUSH);
+    private static final int FULL_HOUSE = category(HandRanking.FULL_HOUSE);
+    private static final int FOUR_OF_A_KIND = category(HandRanking.FOUR_OF_A_KIND);
+    private static final int STRAIGHT_FLUSH = category(HandRanking.STRAIGHT_FLUSH);
+    private static final int ROYAL_FLUSH = category(HandRanking.ROYAL_FLUSH);
+
+    // Weight of the highest card of the best straight in a rank mask, or 0 if there is none
+    private static final byte[] STRAIGHT_HIGH_WEIGHTS = new byte[1 << RANKS.length];
+    // Weights of the (up to) five highest ranks of a rank mask, packed like the ranks of a HandStrength
+    private static final int[] TOP_WEIGHTS = new int[1 << RANKS.length];
+
+    static {
+        for (int rankMask = 0; rankMask < TOP_WEIGHTS.length; rankMask++) {
+            STRAIGHT_HIGH_WEIGHTS[rankMask] = (byte) straightHighWeight(rankMask);
+            int position = 0;
+            for (int rank = RANKS.length - 1; rank >= 0 && position < HandStrength.MAX_RANKS; rank--) {
+                if ((rankMask & 1 << rank) != 0) {
+                    TOP_WEIGHTS[rankMask] |= RANKS[rank].getWeight() << shift(position++);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the strength of the best five cards among the hole cards and the board.
+     *
+     * @param holeCards The {@link PackedHand} of the player's cards.
+     * @param board The {@link PackedHand} of the community cards.
+     * @return The packed strength of the best five-card hand.
+     * @throws IllegalArgumentException if the sets share a card or hold fewer than 5 or more than 7 cards together.
+     */
+    public int strength(long holeCards, long board) {
+        if ((holeCards & board) != 0) {
+            throw new IllegalArgumentException("Hole cards and board cannot share cards.");
+        }
+        return strength(holeCards | board);
+    }
+
+    /**
+     * Computes the strength of the best five cards of the hand.
+     *
+     * @param cards The {@link PackedHand} of five to seven cards.
+     * @return The packed strength of the best five-card hand.
+     * @throws IllegalArgumentException if the hand holds fewer than 5 or more than 7 cards.
+     */
+    public int strength(long cards) {
+        int size = PackedHand.size(cards);
+        if (size < MIN_CARDS || size > MAX_CARDS || !PackedHand.isValid(cards)) {
+            throw new IllegalArgumentException("Hand must contain from 5 to 7 cards.");
+        }
+        return strengthOf(cards);
+    }
+
+    /**
+     * Same as {@link #strength(long)} for callers that already guarantee at most 7 valid cards.
+     * Fewer than 5 cards are rated by their groups of equal ranks and their kickers, as no straight or flush can be made.
+     */
+    static int strengthOf(long cards) {
+        return strengthOf(PackedHand.suitRanks(cards, 0), PackedHand.suitRanks(cards, 1),
+                PackedHand.suitRanks(cards, 2), PackedHand.suitRanks(cards, 3));
+    }
+
+    /**
+     * Same as {@link #strengthOf(long)} for cards given by the rank mask of each suit (see {@link PackedHand#suitRanks}).
+     */
+    static int strengthOf(int spades, int hearts, int diamonds, int clubs) {
+        int flushRanks = flushRanks(spades, hearts, diamonds, clubs);
+        if (flushRanks != 0) {
+            int straightFlushHigh = STRAIGHT_HIGH_WEIGHTS[flushRanks];
+            if (straightFlushHigh == CardRank.ACE.getWeight()) {
+                return ROYAL_FLUSH;
+            }
+            if (straightFlushHigh != 0) {
+                return STRAIGHT_FLUSH | straightFlushHigh << shift(0);
+            }
+        }
+
+        int any = spades | hearts | diamonds | clubs;
+        int atLeastTwo = (spades & hearts) | (spades & diamonds) | (spades & clubs)
+                | (hearts & diamonds) | (hearts & clubs) | (diamonds & clubs);
+        int atLeastThree = (spades & hearts & diamonds) | (spades & hearts & clubs)
+                | (spades & diamonds & clubs) | (hearts & diamonds & clubs);
+        int quads = spades & hearts & diamonds & clubs;
+
+        if (quads != 0) {
+            int quad = Integer.highestOneBit(quads);
+            return FOUR_OF_A_KIND | weightOf(quad) << shift(0) | top(any & ~quad, 1) >>> RANK_SHIFT;
+        }
+        if (atLeastThree != 0) {
+            int triple = Integer.highestOneBit(atLeastThree);
+            int pairs = atLeastTwo & ~triple;
+            if (pairs != 0) {
+                return FULL_HOUSE | weightOf(triple) << shift(0) | weightOf(Integer.highestOneBit(pairs)) << shift(1);
+            }
+        }
+        if (flushRanks != 0) {
+            return FLUSH | TOP_WEIGHTS[flushRanks];
+        }
+        int straightHigh = STRAIGHT_HIGH_WEIGHTS[any];
+        if (straightHigh != 0) {
+            return STRAIGHT | straightHigh << shift(0);
+        }
+        if (atLeastThree != 0) {
+            return SET | weightOf(atLeastThree) << shift(0) | top(any & ~atLeastThree, 2) >>> RANK_SHIFT;
+        }
+        if (atLeastTwo != 0) {
+            int highPair = Integer.highestOneBit(atLeastTwo);
+            int lowPairs = atLeastTwo & ~highPair;
+            if (lowPairs != 0) {
+                int lowPair = Integer.highestOneBit(lowPairs);
+                return TWO_PAIR | weightOf(highPair) << shift(0) | weightOf(lowPair) << shift(1)
+                        | top(any & ~highPair & ~lowPair, 1) >>> 2 * RANK_SHIFT;
+            }
+            return ONE_PAIR | weightOf(highPair) << shift(0) | top(any & ~highPair, 3) >>> RANK_SHIFT;
+        }
+        return HIGH_CARD | TOP_WEIGHTS[any];
+    }
+
+    /**
+     * Picks the five cards that form the best hand.
+     *
+     * @param cards The {@link PackedHand} of five to seven cards.
+     * @return The {@link PackedHand} of the best five cards.
+     */
+    public long bestFive(long cards) {
+        return bestFive(cards, strength(cards));
+    }
+
+    /**
+     * Determines the best {@link Combination} among the hole cards and the board.
+     */
+    public Combination evaluate(long holeCards, long board) {
+        return evaluate(holeCards | board, strength(holeCards, board));
+    }
+
+    /**
+     * Determines the best {@link Combination} of five to seven cards.
+     */
+    public Combination evaluate(long cards) {
+        return evaluate(cards, strength(cards));
+    }
+
+    private Combination evaluate(long cards, int strength) {
+        return LookupTableEvaluator.toCombination(strength, PackedHand.toCards(bestFive(cards, strength)));
+    }
+
+    private static long bestFive(long cards, int strength) {
+        HandRanking handRanking = HandStrength.handRanking(strength);
+        long best = PackedHand.EMPTY;
+        switch (handRanking) {
+            case ROYAL_FLUSH, STRAIGHT_FLUSH, STRAIGHT -> {
+                int suit = handRanking == HandRanking.STRAIGHT ? -1 : flushSuit(cards);
+                int high = handRanking == HandRanking.ROYAL_FLUSH
+                        ? CardRank.ACE.getWeight()
+                        : HandStrength.weightAt(strength, 0);
+                for (int weight = high; weight > high - HandStrength.MAX_RANKS; weight--) {
+                    best |= pickCards(cards, rankOf(weight), 1, suit);
+                }
+            }
+            case FLUSH -> {
+                int suit = flushSuit(cards);
+                for (int i = 0; i < HandStrength.MAX_RANKS; i++) {
+                    best |= pickCards(cards, rankOf(HandStrength.weightAt(strength, i)), 1, suit);
+                }
+            }
+            default -> {
+                int[] groupSizes = groupSizes(handRanking);
+                for (int i = 0; i < groupSizes.length; i++) {
+                    best |= pickCards(cards, rankOf(HandStrength.weightAt(strength, i)), groupSizes[i], -1);
+                }
+            }
+        }
+        return best;
+    }
+
+    // Number of cards behind each rank of the strength, in comparison order
+    private static int[] groupSizes(HandRanking handRanking) {
+        return switch (handRanking) {
+            case FOUR_OF_A_KIND -> new int[]{4, 1};
+            case FULL_HOUSE -> new int[]{3, 2};
+            case SET -> new int[]{3, 1, 1};
+            case TWO_PAIR -> new int[]{2, 2, 1};
+            case ONE_PAIR -> new int[]{2, 1, 1, 1};
+            default -> new int[]{1, 1, 1, 1, 1};
+        };
+    }
+
+    private static long pickCards(long cards, int rank, int count, int onlySuit) {
+        long picked = PackedHand.EMPTY;
+        for (int suit = 0; suit < SUITS && count > 0; suit++) {
+            int card = PackedCard.of(rank, suit);
+            if ((onlySuit < 0 || onlySuit == suit) && PackedHand.contains(cards, card)) {
+                picked = PackedHand.add(picked, card);
+                count--;
+            }
+        }
+        return picked;
+    }
+
+    // With at most seven cards, only one suit can hold five of them
+    private static int flushRanks(int spades, int hearts, int diamonds, int clubs) {
+        if (Integer.bitCount(spades) >= MIN_CARDS) return spades;
+        if (Integer.bitCount(hearts) >= MIN_CARDS) return hearts;
+        if (Integer.bitCount(diamonds) >= MIN_CARDS) return diamonds;
+        if (Integer.bitCount(clubs) >= MIN_CARDS) return clubs;
+        return 0;
+    }
+
+    private static int flushSuit(long cards) {
+        for (int suit = 0; suit < SUITS; suit++) {
+            if (Integer.bitCount(PackedHand.suitRanks(cards, suit)) >= MIN_CARDS) {
+                return suit;
+            }
+        }
+        throw new IllegalStateException("Unexpected hand state");
+    }
+
+    private static int top(int rankMask, int count) {
+        return TOP_WEIGHTS[rankMask] & -(1 << shift(count - 1));
+    }
+
+    private static int weightOf(int rankBit) {
+        return Integer.numberOfTrailingZeros(rankBit) + CardRank.TWO.getWeight();
+    }
+
+    private static int rankOf(int weight) {
+        return weight == 1 ? ACE : weight - CardRank.TWO.getWeight();
+    }
+
+    private static int shift(int position) {
+        return (HandStrength.MAX_RANKS - 1 - position) * RANK_SHIFT;
+    }
+
+    private static int category(HandRanking handRanking) {
+        return HandStrength.of(handRanking);
+    }
+
+    // The Ace also counts as the lowest card, below TWO, so that the "wheel" (Ace through 5) is found
+    private static int straightHighWeight(int rankMask) {
+        int ranks = rankMask << 1 | (rankMask >>> ACE & 1);
+        int runs = ranks & ranks >>> 1 & ranks >>> 2 & ranks >>> 3 & ranks >>> 4;
+        if (runs == 0) {
+            return 0;
+        }
+        // A run starting at bit 0 is the wheel, which is five high
+        int highestRunStart = 31 - Integer.numberOfLeadingZeros(runs);
+        return highestRunStart + WHEEL_HIGH_WEIGHT;
+    }
+}
@@ -0,0 +1,197 @@
+package texasholdem;
+
+/**
+ * Settles the pots of a showdown among up to 10 players sharing a board.
+ *
+ * Every distinct all-in amount opens a side pot: the main pot holds what every player put in up to the smallest
+ * amount, the next pot holds the part between the smallest and the next amount, and so on. A pot goes to
+ * the players with the highest strength (see {@link HandStrength}) among those who did not fold and put in at least
+ * its amount; equal strengths split it. Chips a pot cannot be split into evenly go one by one to its winners
+ * starting from the first seat after the button. Chips of a pot that nobody still in the hand can win move
+ * down to the next smaller pot.
+ *
+ * Players are ordered by strength once per table, and each pot takes its winners from the front of that order,
+ * so settling does not compare hands again. The resolver has no state and can be shared between threads.
+ */
+public class ShowdownResolver {
+
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 10;
+    /** Strength of a player who folded: the chips stay in the pots, but the player cannot win any of them. */
+    public static final int FOLDED = -1;
+
+    /**
+     * Settles a showdown on a complete board.
+     *
+     * @param board The {@link PackedHand} of the five board cards.
+     * @param holeCards The {@link PackedHand} of each player's two hole cards, or {@link PackedHand#EMPTY} for a player who folded.
+     * @param contributions The chips each player put into the pot.
+     * @param button The seat of the button, which decides who gets the odd chips.
+     * @return The chips each player wins.
+     * @throws IllegalArgumentException if the cards or the amounts do not describe a valid showdown.
+     */
+    public long[] settle(long board, long[] holeCards, long[] contributions, int button) {
+        if (PackedHand.size(board) != EquitySpot.BOARD_CARDS || !PackedHand.isValid(board)) {
+            throw new IllegalArgumentException("Board must contain exactly 5 cards.");
+        }
+        int[] strengths = new int[holeCards.length];
+        long dealt = board;
+        for (int seat = 0; seat < holeCards.length; seat++) {
+            long cards = holeCards[seat];
+            if (cards == PackedHand.EMPTY) {
+                strengths[seat] = FOLDED;
+                continue;
+            }
+            if (PackedHand.size(cards) != EquitySpot.HOLE_CARDS || !PackedHand.isValid(cards)) {
+                throw new IllegalArgumentException("Every player must have exactly 2 hole cards.");
+            }
+            if ((dealt & cards) != 0) {
+                throw new IllegalArgumentException("The same card cannot be dealt twice: " + PackedHand.toString(dealt & cards));
+            }
+            dealt |= cards;
+            strengths[seat] = SevenCardEvaluator.strengthOf(board | cards);
+        }
+        return settle(strengths, contributions, button);
+    }
+
+    /**
+     * Settles a showdown from precomputed strengths.
+     *
+     * @param strengths The strength of each player's best hand, or {@link #FOLDED}.
+     * @param contributions The chips each player put into the pot.
+     * @param button The seat of the button, which decides who gets the odd chips.
+     * @return The chips each player wins.
+     * @throws IllegalArgumentException if the amounts do not describe a valid showdown.
+     */
+    public long[] settle(int[] strengths, long[] contributions, int button) {
+        int players = strengths.length;
+        if (contributions.length != players) {
+            throw new IllegalArgumentException("Every player must have a contribution.");
+        }
+        long[] payouts = new long[players];
+        settleAll(players, strengths, contributions, new int[]{button}, payouts);
+        return payouts;
+    }
+
+    /**
+     * Settles many tables with the same number of players at once. Table {@code t} takes the elements
+     * from {@code t * players} to {@code (t + 1) * players} of the strength, contribution and payout arrays.
+     *
+     * @param players The number of players at every table.
+     * @param strengths The strength of each player's best hand, or {@link #FOLDED}.
+     * @param contributions The chips each player put into the pot.
+     * @param buttons The seat of the button at every table.
+     * @param payouts Receives the chips each player wins.
+     * @throws IllegalArgumentException if the arrays do not match or a table is not a valid showdown;
+     *                                  the tables before it are settled.
+     */
+    public void settleAll(int players, int[] strengths, long[] contributions, int[] buttons, long[] payouts) {
+        if (players < MIN_PLAYERS || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Showdown requires from 2 to 10 players.");
+        }
+        int seats = buttons.length * players;
+        if (strengths.length != seats || contributions.length != seats || payouts.length != seats) {
+            throw new IllegalArgumentException("Every table must have a strength, a contribution and a payout for every player.");
+        }
+        int[] order = new int[players];
+        long[] levels = new long[players];
+        for (int table = 0; table < buttons.length; table++) {
+            settleTable(players, table * players, strengths, contributions, buttons[table], payouts, order, levels);
+        }
+    }
+
+    private static void settleTable(int players, int offset, int[] strengths, long[] contributions, int button,
+                                    long[] payouts, int[] order, long[] levels) {
+        if (button < 0 || button >= players) {
+            throw new IllegalArgumentException("Button must be one of the seats: " + button);
+        }
+        // Seats from the strongest to the weakest; equal strengths in the order the odd chips are handed out
+        int levelCount = 0;
+        for (int i = 0; i < players; i++) {
+            int seat = (button + 1 + i) % players;
+            long contribution = contributions[offset + seat];
+            if (contribution < 0) {
+                throw new IllegalArgumentException("Contribution cannot be negative.");
+            }
+            if (strengths[offset + seat] < FOLDED) {
+                throw new IllegalArgumentException("Invalid strength: " + strengths[offset + seat]);
+            }
+            int position = i;
+            while (position > 0 && strengths[offset + order[position - 1]] < strengths[offset + seat]) {
+                order[position] = order[position - 1];
+                position--;
+            }
+            order[position] = seat;
+            levelCount = addLevel(levels, levelCount, contribution);
+            payouts[offset + seat] = 0;
+        }
+
+        // Pots from the largest all-in amount down, so unclaimed chips fall into the next smaller pot
+        long carried = 0;
+        for (int level = levelCount - 1; level >= 0; level--) {
+            long amount = levels[level];
+            long below = level == 0 ? 0 : levels[level - 1];
+            long pot = carried;
+            for (int seat = 0; seat < players; seat++) {
+                long contribution = contributions[offset + seat];
+                pot += Math.min(contribution, amount) - Math.min(contribution, below);
+            }
+            carried = award(players, offset, strengths, contributions, amount, pot, payouts, order) ? 0 : pot;
+        }
+        if (carried > 0) {
+            throw new IllegalArgumentException("At least one player who put chips in must reach the showdown.");
+        }
+    }
+
+    private static int addLevel(long[] levels, int count, long contribution) {
+        if (contribution == 0) {
+            return count;
+        }
+        int position = count;
+        while (position > 0 && levels[position - 1] > contribution) {
+            position--;
+        }
+        if (position > 0 && levels[position - 1] == contribution) {
+            return count;
+        }
+        System.arraycopy(levels, position, levels, position + 1, count - position);
+        levels[position] = contribution;
+        return count + 1;
+    }
+
+    /**
+     * Splits the pot between the strongest players who put in at least the amount.
+     *
+     * @return false if no such player is left in the hand.
+     */
+    private static boolean award(int players, int offset, int[] strengths, long[] contributions, long amount,
+                                 long pot, long[] payouts, int[] order) {
+        int first = 0;
+        while (first < players && !isEligible(offset + order[first], strengths, contributions, amount)) {
+            first++;
+        }
+        if (first == players) {
+            return false;
+        }
+        int best = strengths[offset + order[first]];
+        int winners = 0;
+        for (int i = first; i < players && strengths[offset + order[i]] == best; i++) {
+            if (isEligible(offset + order[i], strengths, contributions, amount)) {
+                winners++;
+            }
+        }
+        long share = pot / winners;
+        long oddChips = pot % winners;
+        for (int i = first; i < players && strengths[offset + order[i]] == best; i++) {
+            int player = offset + order[i];
+            if (isEligible(player, strengths, contributions, amount)) {
+                payouts[player] += share + (oddChips-- > 0 ? 1 : 0);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEligible(int player, int[] strengths, long[] contributions, long amount) {
+        return strengths[player] != FOLDED && contributions[player] >= amount;
+    }
+}
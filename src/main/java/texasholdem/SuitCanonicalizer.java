@@ -0,0 +1,32 @@
+package texasholdem;
+
+/**
+ * Maps a {@link PackedHand} to the representative of its suit-isomorphism class.
+ *
+ * Renaming suits never changes the strength of a hand, so all hands that differ only by a permutation
+ * of suits share one representative: the hand whose suits are renamed so that the rank masks of
+ * the suits (see {@link PackedHand#suitRanks}) are in descending order from the first suit to the last.
+ * For five cards this leaves 134,459 classes out of 2,598,960 hands.
+ */
+public final class SuitCanonicalizer {
+
+    private SuitCanonicalizer() {
+    }
+
+    public static long canonical(long hand) {
+        int first = PackedHand.suitRanks(hand, 0);
+        int second = PackedHand.suitRanks(hand, 1);
+        int third = PackedHand.suitRanks(hand, 2);
+        int fourth = PackedHand.suitRanks(hand, 3);
+        // Sorting network for four values, descending
+        if (first < second) { int t = first; first = second; second = t; }
+        if (third < fourth) { int t = third; third = fourth; fourth = t; }
+        if (first < third) { int t = first; first = third; third = t; }
+        if (second < fourth) { int t = second; second = fourth; fourth = t; }
+        if (second < third) { int t = second; second = third; third = t; }
+        return (long) first
+                | (long) second << PackedHand.SUIT_BLOCK_BITS
+                | (long) third << 2 * PackedHand.SUIT_BLOCK_BITS
+                | (long) fourth << 3 * PackedHand.SUIT_BLOCK_BITS;
+    }
+}
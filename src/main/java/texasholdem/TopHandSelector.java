@@ -0,0 +1,315 @@
+package texasholdem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the K strongest of a stream of hands without sorting the stream or holding it in memory.
+ *
+ * The hands kept are on a min-heap of primitive keys, so the weakest of them is at the root: a new hand either
+ * loses to the root with one comparison (the usual case once the heap is full) or replaces it in O(log K).
+ * Hands of equal strength are kept in the order they were offered, so the result is the same as the first K
+ * hands after a stable sort with {@link PokerHand#compareTo}. Hands below the minimum {@link HandRanking}
+ * are dropped on their strength, before anything else is done with them.
+ *
+ * Selectors of consecutive parts of a stream combine with {@link #merge}; {@link #toTop} and {@link #select}
+ * use this to select in parallel. A selector is not thread-safe; give each thread its own.
+ */
+public final class TopHandSelector {
+
+    // A key holds the 24-bit strength above the inverted offer sequence, below the sign bit:
+    // of two hands, the one with the greater key is kept
+    private static final int SEQUENCE_BITS = 39;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int MIN_PART_HANDS = 64 * 1024;
+
+    private final int capacity;
+    private final int minStrength;
+    private final long[] keys;
+    private final long[] hands;
+    // The PokerHand offered for each kept hand, or null if it was offered packed
+    private final PokerHand[] sources;
+    private int size;
+    private long offered;
+
+    /**
+     * @param k The number of hands to keep.
+     * @throws IllegalArgumentException if k is not positive.
+     */
+    public TopHandSelector(int k) {
+        this(k, HandRanking.HIGH_CARD);
+    }
+
+    /**
+     * @param k The number of hands to keep.
+     * @param minimum The weakest {@link HandRanking} to keep.
+     * @throws IllegalArgumentException if k is not positive.
+     */
+    public TopHandSelector(int k, HandRanking minimum) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Number of hands to keep must be positive.");
+        }
+        this.capacity = k;
+        this.minStrength = HandStrength.lowest(minimum);
+        this.keys = new long[k];
+        this.hands = new long[k];
+        this.sources = new PokerHand[k];
+    }
+
+    /**
+     * @return A filter that passes the hands of the {@link HandRanking} or better, without building their {@link Combination}
+     *         when they are in lazy mode (see {@link PokerHand#lazy(CharSequence)}).
+     */
+    public static Predicate<PokerHand> atLeast(HandRanking minimum) {
+        int minStrength = HandStrength.lowest(minimum);
+        return hand -> hand.getStrength() >= minStrength;
+    }
+
+    /**
+     * @return A collector of the K strongest hands, strongest first, as the same instances that were collected.
+     */
+    public static Collector<PokerHand, ?, List<PokerHand>> toTop(int k, HandRanking minimum) {
+        return Collector.of(() -> new TopHandSelector(k, minimum), TopHandSelector::offer,
+                TopHandSelector::merge, TopHandSelector::toPokerHands);
+    }
+
+    /**
+     * Selects the K strongest of five-card hands on a {@link ForkJoinPool}, one selector per part of the array.
+     *
+     * @param hands The {@link PackedHand} of every hand.
+     * @return A selector holding the K strongest hands.
+     * @throws IllegalArgumentException if k is not positive or any hand does not hold exactly five cards.
+     */
+    public static TopHandSelector select(long[] hands, int k, HandRanking minimum, ForkJoinPool pool) {
+        TopHandSelector total = new TopHandSelector(k, minimum);
+        int parts = Math.max(1, Math.min(pool.getParallelism(), hands.length / MIN_PART_HANDS));
+        List<ForkJoinTask<TopHandSelector>> tasks = new ArrayList<>();
+        for (int part = 0; part < parts; part++) {
+            int from = (int) ((long) hands.length * part / parts);
+            int to = (int) ((long) hands.length * (part + 1) / parts);
+            tasks.add(pool.submit(() -> {
+                TopHandSelector selector = new TopHandSelector(k, minimum);
+                for (int i = from; i < to; i++) {
+                    selector.offer(hands[i]);
+                }
+                return selector;
+            }));
+        }
+        for (ForkJoinTask<TopHandSelector> task : tasks) {
+            total.merge(task.join());
+        }
+        return total;
+    }
+
+    /**
+     * Offers a five-card hand, rated with {@link LookupTableEvaluator}.
+     *
+     * @return true if the hand is kept for now.
+     * @throws IllegalArgumentException if the hand does not hold exactly five cards.
+     */
+    public boolean offer(long hand) {
+        return offer(hand, LookupTableEvaluator.INSTANCE.strength(hand));
+    }
+
+    /**
+     * Offers a hand that is already rated, e.g. read with {@link HandBinaryReader}.
+     *
+     * @param hand The {@link PackedHand} of the hand.
+     * @param strength Its strength (see {@link PokerHand#getStrength()}).
+     * @return true if the hand is kept for now.
+     */
+    public boolean offer(long hand, int strength) {
+        return offer(hand, strength, offered++, null);
+    }
+
+    /**
+     * Offers a hand by its strength and its cards; the hand itself is kept for {@link #toPokerHands()}.
+     *
+     * @return true if the hand is kept for now.
+     */
+    public boolean offer(PokerHand hand) {
+        int strength = hand.getStrength();
+        if (strength < minStrength || size == capacity && strength <= strengthOf(keys[0])) {
+            // Decided on the strength alone, without packing the cards of an eager hand
+            offered++;
+            return false;
+        }
+        return offer(PackedHand.of(hand), strength, offered++, hand);
+    }
+
+    private boolean offer(long hand, int strength, long sequence, PokerHand source) {
+        if (strength < minStrength) {
+            return false;
+        }
+        long key = (long) strength << SEQUENCE_BITS | ~sequence & SEQUENCE_MASK;
+        if (size < capacity) {
+            keys[size] = key;
+            hands[size] = hand;
+            sources[size] = source;
+            siftUp(size++);
+            return true;
+        }
+        if (key <= keys[0]) {
+            return false;
+        }
+        keys[0] = key;
+        hands[0] = hand;
+        sources[0] = source;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * Adds the hands kept by a selector of the part of the stream right after the part offered to this one.
+     * Hands of equal strength from this selector come first, as they were offered earlier.
+     *
+     * @return This selector.
+     * @throws IllegalArgumentException if the selectors keep a different number of hands or a different minimum.
+     */
+    public TopHandSelector merge(TopHandSelector other) {
+        if (other.capacity != capacity || other.minStrength != minStrength) {
+            throw new IllegalArgumentException("Only selectors of the same size and minimum can be merged.");
+        }
+        for (int i = 0; i < other.size; i++) {
+            long sequence = ~other.keys[i] & SEQUENCE_MASK;
+            offer(other.hands[i], strengthOf(other.keys[i]), offered + sequence, other.sources[i]);
+        }
+        offered += other.offered;
+        return this;
+    }
+
+    /**
+     * @return The {@link PackedHand} of the hands kept, strongest first.
+     */
+    public long[] hands() {
+        long[] result = new long[size];
+        int[] order = order();
+        for (int i = 0; i < size; i++) {
+            result[i] = hands[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * @return The strengths of the hands kept, strongest first.
+     */
+    public int[] strengths() {
+        int[] result = new int[size];
+        int[] order = order();
+        for (int i = 0; i < size; i++) {
+            result[i] = strengthOf(keys[order[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * @return The hands kept, strongest first: the instances offered with {@link #offer(PokerHand)},
+     *         and lazy hands (see {@link PokerHand#lazy(long)}) for the hands offered packed.
+     */
+    public List<PokerHand> toPokerHands() {
+        List<PokerHand> result = new ArrayList<>(size);
+        for (int position : order()) {
+            result.add(sources[position] != null ? sources[position] : PokerHand.lazy(hands[position]));
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of hands kept, at most K.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of hands offered so far, including the merged selectors.
+     */
+    public long getOffered() {
+        return offered;
+    }
+
+    // Heap positions from the greatest key down, by sorting a copy of the heap
+    private int[] order() {
+        long[] heap = keys.clone();
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        int[] order = new int[size];
+        for (int remaining = size; remaining > 0; remaining--) {
+            order[remaining - 1] = positions[0];
+            heap[0] = heap[remaining - 1];
+            positions[0] = positions[remaining - 1];
+            siftDown(heap, positions, 0, remaining - 1);
+        }
+        return order;
+    }
+
+    private void siftUp(int position) {
+        long key = keys[position];
+        long hand = hands[position];
+        PokerHand source = sources[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[position] = keys[parent];
+            hands[position] = hands[parent];
+            sources[position] = sources[parent];
+            position = parent;
+        }
+        keys[position] = key;
+        hands[position] = hand;
+        sources[position] = source;
+    }
+
+    private void siftDown(int position) {
+        long key = keys[position];
+        long hand = hands[position];
+        PokerHand source = sources[position];
+        int child;
+        while ((child = 2 * position + 1) < size) {
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[position] = keys[child];
+            hands[position] = hands[child];
+            sources[position] = sources[child];
+            position = child;
+        }
+        keys[position] = key;
+        hands[position] = hand;
+        sources[position] = source;
+    }
+
+    private static void siftDown(long[] heap, int[] positions, int position, int size) {
+        long key = heap[position];
+        int value = positions[position];
+        int child;
+        while ((child = 2 * position + 1) < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[position] = heap[child];
+            positions[position] = positions[child];
+            position = child;
+        }
+        heap[position] = key;
+        positions[position] = value;
+    }
+
+    private static int strengthOf(long key) {
+        return (int) (key >>> SEQUENCE_BITS);
+    }
+}
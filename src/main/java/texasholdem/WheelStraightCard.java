@@ -2,8 +2,23 @@ package texasholdem;
 
 public class WheelStraightCard extends Card {
 
+    private static final WheelStraightCard[] ACES = new WheelStraightCard[CardSuit.values().length];
+
+    static {
+        for (CardSuit suit : CardSuit.values()) {
+            ACES[suit.ordinal()] = new WheelStraightCard(Card.of(CardRank.ACE, suit));
+        }
+    }
+
     public WheelStraightCard(Card card) {
-        super(card.toString());
+        super(card.getRank(), card.getSuit());
+    }
+
+    /**
+     * Returns the shared "wheel" instance of an Ace, or a new one for any other card.
+     */
+    public static WheelStraightCard of(Card card) {
+        return card.getRank() == CardRank.ACE ? ACES[card.getSuit().ordinal()] : new WheelStraightCard(card);
     }
 
     @Override
@@ -0,0 +1,81 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchHandEvaluatorTest {
+
+    private ForkJoinPool pool;
+    private BatchHandEvaluator batchEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        batchEvaluator = new BatchHandEvaluator(PokerHandEvaluator.INSTANCE, pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static List<String> randomHands(int count) {
+        SplittableRandom random = new SplittableRandom(14);
+        List<String> hands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hands.add(PackedHand.toString(HandStrengthTable.hand(random.nextInt(HandStrengthTable.HANDS))));
+        }
+        return hands;
+    }
+
+    @Test
+    void evaluateAllKeepsInputOrder() {
+        List<String> hands = randomHands(1000);
+
+        List<PokerHand> evaluated = batchEvaluator.evaluateAll(hands);
+
+        assertEquals(hands.size(), evaluated.size(), "Expected one hand per input");
+        for (int i = 0; i < hands.size(); i++) {
+            assertEquals(new PokerHand(hands.get(i)), evaluated.get(i), "Hand mismatch at " + i);
+            assertEquals(new PokerHand(hands.get(i)).getStrength(), evaluated.get(i).getStrength(), "Strength mismatch at " + i);
+        }
+    }
+
+    @Test
+    void strengthsMatchPokerHand() {
+        List<String> hands = randomHands(1000);
+        long[] packed = hands.stream().mapToLong(HandParser::parse).toArray();
+
+        int[] parsedStrengths = batchEvaluator.strengthsOf(hands);
+        int[] packedStrengths = batchEvaluator.strengthsOf(packed);
+
+        for (int i = 0; i < hands.size(); i++) {
+            int expected = new PokerHand(hands.get(i)).getStrength();
+            assertEquals(expected, parsedStrengths[i], "Strength mismatch at " + i);
+            assertEquals(expected, packedStrengths[i], "Packed strength mismatch at " + i);
+        }
+    }
+
+    @Test
+    void invalidHandFailsBatch() {
+        List<String> hands = new ArrayList<>(randomHands(100));
+        hands.set(57, "AS KS QS JS");
+
+        assertThrows(IllegalArgumentException.class, () -> batchEvaluator.evaluateAll(hands), "Expected an invalid hand to fail the batch");
+        assertThrows(IllegalArgumentException.class, () -> batchEvaluator.strengthsOf(hands), "Expected an invalid hand to fail the batch");
+    }
+
+    @Test
+    void thresholdMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchHandEvaluator(PokerHandEvaluator.INSTANCE, pool, 0),
+                "Expected a zero threshold to be rejected");
+    }
+}
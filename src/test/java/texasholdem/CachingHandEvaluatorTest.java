@@ -0,0 +1,61 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs every PokerHandEvaluatorTest case through the cache as well
+class CachingHandEvaluatorTest extends PokerHandEvaluatorTest {
+
+    @Override
+    HandEvaluator createEvaluator() {
+        return new CachingHandEvaluator(new PokerHandEvaluator(), 1024);
+    }
+
+    @Test
+    void canonicalFormIgnoresSuitNames() {
+        long hand = HandParser.parse("KS 2H 5C JD TD");
+        long renamed = HandParser.parse("KH 2C 5S JD TD");
+
+        assertEquals(SuitCanonicalizer.canonical(hand), SuitCanonicalizer.canonical(renamed),
+                "Hands differing only by suits should share a representative");
+        assertNotEquals(SuitCanonicalizer.canonical(hand), SuitCanonicalizer.canonical(HandParser.parse("KS 2S 5C JD TD")),
+                "Hands with different suit patterns should not share a representative");
+    }
+
+    @Test
+    void countFiveCardSuitClasses() {
+        Set<Long> classes = new HashSet<>();
+        for (int index = 0; index < HandStrengthTable.HANDS; index++) {
+            classes.add(SuitCanonicalizer.canonical(HandStrengthTable.hand(index)));
+        }
+        assertEquals(134_459, classes.size(), "Five-card hands should fall into 134,459 suit classes");
+    }
+
+    @Test
+    void reuseResultForSuitPermutation() {
+        CachingHandEvaluator evaluator = new CachingHandEvaluator(new PokerHandEvaluator(), 1024);
+
+        Combination first = evaluator.evaluate(new PokerHand("AS AH 9S 9D 5H"));
+        Combination second = evaluator.evaluate(new PokerHand("AC AD 9C 9H 5D"));
+
+        assertEquals(1, evaluator.getHits(), "Permuted hand should be served from the cache");
+        assertEquals(1, evaluator.getMisses(), "First hand should be evaluated");
+        assertEquals(0.5, evaluator.getHitRate(), 1e-9, "Half of the evaluations should hit");
+        assertEquals(first.getStrength(), second.getStrength(), "Strengths should match");
+        assertEquals(new PokerHandEvaluator().evaluate(new PokerHand("AC AD 9C 9H 5D")).toString(), second.toString(),
+                "Cached combination should hold the cards of the evaluated hand");
+    }
+
+    @Test
+    void keepSizeBounded() {
+        CachingHandEvaluator evaluator = new CachingHandEvaluator(new LookupTableEvaluator(), 64);
+        for (int index = 0; index < 100_000; index += 7) {
+            evaluator.evaluate(new PokerHand(PackedHand.toString(HandStrengthTable.hand(index))));
+        }
+        assertTrue(evaluator.size() <= 64, "Cache should not grow beyond its maximum size");
+    }
+}
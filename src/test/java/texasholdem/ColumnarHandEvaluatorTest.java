@@ -0,0 +1,139 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ColumnarHandEvaluatorTest {
+
+    private final ColumnarHandEvaluator evaluator = ColumnarHandEvaluator.INSTANCE;
+
+    private int[] strengths(long... hands) {
+        int[][] columns = ColumnarHandEvaluator.toColumns(hands);
+        int[] strengths = new int[hands.length];
+        evaluator.strengths(columns[0], columns[1], columns[2], columns[3], strengths, null, 0, hands.length);
+        return strengths;
+    }
+
+    @Test
+    void sameStrengthsAsSevenCardEvaluator() {
+        Random random = new Random(24);
+        long[] hands = new long[100_000];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = randomCards(random, 5 + i % 3);
+        }
+
+        int[] strengths = strengths(hands);
+
+        for (int i = 0; i < hands.length; i++) {
+            assertEquals(SevenCardEvaluator.strengthOf(hands[i]), strengths[i], "Strength should match for " + PackedHand.toString(hands[i]));
+        }
+    }
+
+    @Test
+    void sameStrengthsAsPokerHandForEveryCategory() {
+        String[] hands = {"AS KS QS JS TS", "9H TH JH QH KH", "AD 2D 3D 4D 5D", "7S 7H 7D 7C 2H", "3S 3H 3D 9C 9D",
+                "2C 7C 9C JC KC", "AS 2H 3D 4C 5S", "TS JH QD KC AS", "8S 8H 8D KC 2D", "QS QH 4D 4C AH",
+                "6S 6H KD 9C 2C", "AS KH 9D 7C 3S"};
+        for (String hand : hands) {
+            assertEquals(new PokerHand(hand).getStrength(), strengths(HandParser.parse(hand))[0], "Strength should match for " + hand);
+        }
+    }
+
+    @Test
+    void fillsCategoriesOfTheRange() {
+        long[] hands = {HandParser.parse("2S 3S 4S 5S 7H"), HandParser.parse("AS KS QS JS TS"),
+                HandParser.parse("6S 6H KD 9C 2C"), HandParser.parse("AS KH 9D 7C 3S")};
+        int[][] columns = ColumnarHandEvaluator.toColumns(hands);
+        int[] strengths = new int[hands.length];
+        byte[] categories = new byte[hands.length];
+
+        evaluator.strengths(columns[0], columns[1], columns[2], columns[3], strengths, categories, 1, 3);
+
+        assertEquals(0, strengths[0], "Expected the hands before the offset untouched");
+        assertEquals(HandRanking.ROYAL_FLUSH.ordinal(), categories[1], "Royal flush expected");
+        assertEquals(HandRanking.ONE_PAIR.ordinal(), categories[2], "One pair expected");
+        assertEquals(HandRanking.HIGH_CARD.ordinal(), categories[3], "High card expected");
+        assertEquals(new PokerHand("6S 6H KD 9C 2C").getStrength(), strengths[2], "Pair strength expected");
+    }
+
+    @Test
+    void rejectInvalidHands() {
+        assertThrows(IllegalArgumentException.class, () -> strengths(MonteCarloEquityCalculatorTest.cards("AS KS QS JS")),
+                "Four cards should be rejected");
+        int[] tooHigh = {1 << 13 | 0b11};
+        int[] fourRanks = {0b1111};
+        int[] none = {0};
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strengths(tooHigh, fourRanks, none, none,
+                new int[1], null, 0, 1), "Ranks beyond the Ace should be rejected");
+    }
+
+    @Test
+    void rateHandsBeforeInvalidHand() {
+        int[][] columns = ColumnarHandEvaluator.toColumns(new long[]{MonteCarloEquityCalculatorTest.cards("AS KS QS JS TS"),
+                MonteCarloEquityCalculatorTest.cards("AS KS QS JS")});
+        int[] strengths = new int[2];
+        byte[] categories = new byte[2];
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strengths(columns[0], columns[1], columns[2], columns[3],
+                strengths, categories, 0, 2), "Four cards should be rejected");
+        assertEquals(HandStrength.of(HandRanking.ROYAL_FLUSH), strengths[0], "First hand should be rated");
+        assertEquals(HandRanking.ROYAL_FLUSH.ordinal(), categories[0], "Category of the first hand should be filled");
+    }
+
+    @Test
+    void vectorKernelMatchesScalarLoop() {
+        assumeTrue(evaluator.isVectorized(), "Vector API kernel unavailable on this platform");
+        ColumnarHandEvaluator scalar = new ColumnarHandEvaluator(null);
+        Random random = new Random(21);
+        // An odd count leaves a tail shorter than a vector
+        long[] hands = new long[100_003];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = randomCards(random, 5 + i % 3);
+        }
+        int[][] columns = ColumnarHandEvaluator.toColumns(hands);
+        int[] expected = new int[hands.length];
+        byte[] expectedCategories = new byte[hands.length];
+        int[] strengths = new int[hands.length];
+        byte[] categories = new byte[hands.length];
+
+        scalar.strengths(columns[0], columns[1], columns[2], columns[3], expected, expectedCategories, 0, hands.length);
+        evaluator.strengths(columns[0], columns[1], columns[2], columns[3], strengths, categories, 0, hands.length);
+
+        assertArrayEquals(expected, strengths, "Strengths should match the scalar loop");
+        assertArrayEquals(expectedCategories, categories, "Categories should match the scalar loop");
+    }
+
+    @Test
+    void vectorKernelRatesHandsBeforeInvalidHand() {
+        assumeTrue(evaluator.isVectorized(), "Vector API kernel unavailable on this platform");
+        Random random = new Random(7);
+        long[] hands = new long[100];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = randomCards(random, 7);
+        }
+        hands[37] = randomCards(random, 4);
+        int[][] columns = ColumnarHandEvaluator.toColumns(hands);
+        int[] strengths = new int[hands.length];
+        byte[] categories = new byte[hands.length];
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strengths(columns[0], columns[1], columns[2], columns[3],
+                strengths, categories, 0, hands.length), "Four cards should be rejected");
+        for (int i = 0; i < 37; i++) {
+            assertEquals(SevenCardEvaluator.strengthOf(hands[i]), strengths[i], "Hand " + i + " should be rated");
+            assertEquals(HandStrength.rankingOrdinal(strengths[i]), categories[i], "Category of hand " + i + " should be filled");
+        }
+        assertEquals(0, strengths[38], "Expected the hands after the invalid one untouched");
+    }
+
+    private static long randomCards(Random random, int count) {
+        long hand = PackedHand.EMPTY;
+        while (PackedHand.size(hand) < count) {
+            hand = PackedHand.add(hand, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,58 @@
+package texasholdem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+
+class ExactEquityCalculatorTest {
+
+    private ExactEquityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new ExactEquityCalculator();
+    }
+
+    @Test
+    void calculatePreflopHeadsUp() {
+        EquityResult result = calculator.calculate(new long[]{cards("AS AH"), cards("KS KH")}, PackedHand.EMPTY);
+
+        assertEquals(1_712_304, result.getTrials(), "Every board of 5 out of 48 cards should be dealt");
+        assertEquals(0.8264, result.getEquity(0), 0.0005, "Aces should have about 82.6% equity against Kings of the same suits");
+        assertEquals(0, result.getMargin(0), 1e-9, "Exact result should have no margin");
+    }
+
+    @Test
+    void calculateFromTheFlop() {
+        EquityResult result = calculator.calculate(new long[]{cards("AS KS"), cards("QH QD")}, cards("2S 7S QC"));
+
+        assertEquals(990, result.getTrials(), "Every turn and river should be dealt");
+        assertEquals(result.getTrials(), result.getWins(0) + result.getTies(0) + result.getLosses(0),
+                "Every board should be won, tied or lost");
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9, "Equities should add up to 1");
+    }
+
+    @Test
+    void calculateSplitOnTheRiver() {
+        EquityResult result = calculator.calculate(new long[]{cards("2S 3S"), cards("2H 3H")}, cards("AD KD QD JC"));
+
+        assertEquals(44, result.getTrials(), "Every river should be dealt");
+        assertEquals(44, result.getTies(0), "Board straight draws cannot be beaten by either player alone");
+    }
+
+    @Test
+    void calculateSameAsMonteCarloWithinMargin() {
+        long[] holeCards = {cards("AS KD"), cards("8C 8D"), cards("JH TH")};
+        long board = cards("2C 9H 5D");
+
+        EquityResult exact = calculator.calculate(holeCards, board);
+        EquityResult sampled = new MonteCarloEquityCalculator().calculate(holeCards, board, 100_000);
+
+        for (int player = 0; player < holeCards.length; player++) {
+            assertEquals(exact.getEquity(player), sampled.getEquity(player), 3 * sampled.getMargin(player),
+                    "Sampled equity should be close to the exact one for player " + player);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandBinaryFormatTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("hand-binary");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static long[] randomHands(int count) {
+        SplittableRandom random = new SplittableRandom(16);
+        long[] hands = new long[count];
+        for (int i = 0; i < count; i++) {
+            hands[i] = HandStrengthTable.hand(random.nextInt(HandStrengthTable.HANDS));
+        }
+        return hands;
+    }
+
+    @Test
+    void encodeRoundTrip() {
+        long hand = HandParser.parse("AS KS QS JS TS");
+        int strength = LookupTableEvaluator.INSTANCE.strength(hand);
+
+        long record = HandBinaryFormat.encode(hand, strength);
+
+        assertEquals(hand, HandBinaryFormat.hand(record), "Expected the cards to survive encoding");
+        assertEquals(strength, HandBinaryFormat.strength(record), "Expected the strength to survive encoding");
+    }
+
+    @Test
+    void bufferRoundTrip() {
+        long[] hands = randomHands(100);
+        int[] strengths = new int[hands.length];
+        for (int i = 0; i < hands.length; i++) {
+            strengths[i] = LookupTableEvaluator.INSTANCE.strength(hands[i]);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(hands.length * HandBinaryFormat.RECORD_BYTES);
+
+        HandBinaryFormat.put(buffer, hands, strengths, 0, hands.length);
+        buffer.flip();
+        long[] readHands = new long[hands.length];
+        int[] readStrengths = new int[hands.length];
+
+        assertEquals(hands.length, HandBinaryFormat.get(buffer, readHands, readStrengths, 0, hands.length), "Expected all records to be valid");
+        assertArrayEquals(hands, readHands, "Hands mismatch");
+        assertArrayEquals(strengths, readStrengths, "Strengths mismatch");
+    }
+
+    @Test
+    void fileRoundTripAcrossBuffers() throws IOException {
+        long[] hands = randomHands(10_000);
+        Path file = directory.resolve("hands.bin");
+        try (HandBinaryWriter writer = new HandBinaryWriter(file, 7)) {
+            for (int i = 0; i < 5_000; i++) {
+                writer.write(hands[i]);
+            }
+            int[] strengths = new int[hands.length];
+            for (int i = 5_000; i < hands.length; i++) {
+                strengths[i] = LookupTableEvaluator.INSTANCE.strength(hands[i]);
+            }
+            writer.write(hands, strengths, 5_000, 5_000);
+            assertEquals(hands.length, writer.getRecords(), "Expected every hand to be counted");
+        }
+        assertEquals(HandBinaryFormat.HEADER_BYTES + hands.length * HandBinaryFormat.RECORD_BYTES, Files.size(file),
+                "Expected fixed-width records");
+
+        long[] readHands = new long[hands.length];
+        int[] readStrengths = new int[hands.length];
+        try (HandBinaryReader reader = new HandBinaryReader(file, 5)) {
+            assertEquals(hands.length, reader.getRecords(), "Expected the record count from the file size");
+            int total = 0;
+            int read;
+            while ((read = reader.read(readHands, readStrengths, total, 3)) != -1) {
+                total += read;
+            }
+            assertEquals(hands.length, total, "Expected every hand to be read");
+        }
+        assertArrayEquals(hands, readHands, "Hands mismatch");
+        for (int i = 0; i < hands.length; i++) {
+            assertEquals(LookupTableEvaluator.INSTANCE.strength(hands[i]), readStrengths[i], "Strength mismatch at " + i);
+        }
+    }
+
+    @Test
+    void rejectsInvalidHands() {
+        long hand = HandParser.parse("AS KS QS JS TS");
+        long fourCards = PackedHand.remove(hand, PackedHand.firstCard(hand));
+        assertThrows(IllegalArgumentException.class, () -> HandBinaryFormat.encode(fourCards, 0),
+                "Expected a four card hand to be rejected");
+        assertEquals(PackedHand.EMPTY, HandBinaryFormat.hand(0), "Expected repeated cards to be rejected");
+    }
+
+    @Test
+    void rejectsCorruptFiles() throws IOException {
+        Path notHands = directory.resolve("text.bin");
+        Files.writeString(notHands, "AS KS QS JS TS\n");
+        assertThrows(IOException.class, () -> new HandBinaryReader(notHands), "Expected a text file to be rejected");
+
+        Path truncated = directory.resolve("truncated.bin");
+        try (HandBinaryWriter writer = new HandBinaryWriter(truncated)) {
+            writer.write(HandParser.parse("AS KS QS JS TS"));
+        }
+        Files.write(truncated, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> new HandBinaryReader(truncated), "Expected a partial record to be rejected");
+
+        Path corrupt = directory.resolve("corrupt.bin");
+        ByteBuffer content = ByteBuffer.allocate(HandBinaryFormat.HEADER_BYTES + HandBinaryFormat.RECORD_BYTES);
+        HandBinaryFormat.putHeader(content);
+        content.putLong(-1L);
+        Files.write(corrupt, content.array());
+        try (HandBinaryReader reader = new HandBinaryReader(corrupt)) {
+            assertThrows(IOException.class, () -> reader.read(new long[1], new int[1], 0, 1), "Expected a corrupt record to be rejected");
+        }
+    }
+}
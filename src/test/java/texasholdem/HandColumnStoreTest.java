@@ -0,0 +1,165 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandColumnStoreTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("hand-column-store");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void addParsedHands() {
+        HandColumnStore store = HandColumnStore.allocate(4);
+        assertEquals(0, store.add("AS KS QS JS TS"), "First index");
+        assertEquals(1, store.add("2H 2D 5S 5C 9H"), "Second index");
+
+        assertEquals(2, store.size(), "Size");
+        assertEquals(4, store.capacity(), "Capacity");
+        assertEquals(HandParser.parse("2H 2D 5S 5C 9H"), store.hand(1), "Cards");
+        assertEquals(new PokerHand("2H 2D 5S 5C 9H").getStrength(), store.strength(1), "Strength");
+        assertEquals(HandRanking.ROYAL_FLUSH, store.handRanking(0), "Category of the first hand");
+        assertEquals(HandRanking.TWO_PAIR, store.handRanking(1), "Category of the second hand");
+        assertEquals(new PokerHand("AS KS QS JS TS"), store.pokerHand(0), "Poker hand");
+        assertThrows(IndexOutOfBoundsException.class, () -> store.hand(2), "Index beyond the size");
+    }
+
+    @Test
+    void rejectInvalidHands() {
+        HandColumnStore store = HandColumnStore.allocate(1);
+        assertThrows(IllegalArgumentException.class, () -> store.add("AS KS QS JS"), "Four cards");
+        assertThrows(IllegalArgumentException.class, () -> store.add(PackedHand.EMPTY), "No cards");
+        store.add("AS KS QS JS TS");
+        assertThrows(IllegalStateException.class, () -> store.add("2H 2D 5S 5C 9H"), "Full store");
+        assertThrows(IllegalArgumentException.class, () -> HandColumnStore.allocate(-1), "Negative capacity");
+    }
+
+    @Test
+    void countAndSelectMatchEvaluator() {
+        HandColumnStore store = HandColumnStore.allocate(HandStrengthTable.HANDS);
+        int[] counts = new int[HandRanking.values().length];
+        for (int i = 0; i < HandStrengthTable.HANDS; i++) {
+            long hand = HandStrengthTable.hand(i);
+            store.add(hand);
+            counts[HandStrength.handRanking(LookupTableEvaluator.INSTANCE.strength(hand)).ordinal()]++;
+        }
+
+        for (HandRanking handRanking : HandRanking.values()) {
+            assertEquals(counts[handRanking.ordinal()], store.count(handRanking), "Count of " + handRanking);
+        }
+        TopHandSelector expected = new TopHandSelector(10, HandRanking.SET);
+        for (int i = 0; i < HandStrengthTable.HANDS; i++) {
+            expected.offer(HandStrengthTable.hand(i));
+        }
+        TopHandSelector top = store.top(10, HandRanking.SET);
+        assertArrayEquals(expected.hands(), top.hands(), "Top hands");
+        assertArrayEquals(expected.strengths(), top.strengths(), "Top strengths");
+    }
+
+    @Test
+    void sortFromStrongest() {
+        int hands = 5000;
+        HandColumnStore store = HandColumnStore.allocate(hands);
+        int[] strengths = new int[hands];
+        long[] cards = new long[hands];
+        for (int i = 0; i < hands; i++) {
+            cards[i] = HandStrengthTable.hand(i);
+            store.add(cards[i]);
+            strengths[i] = store.strength(i);
+        }
+        // Duplicates test hands of equal strength and equal cards
+        HandColumnStore withDuplicates = HandColumnStore.allocate(2 * hands);
+        for (int i = 0; i < 2 * hands; i++) {
+            withDuplicates.add(cards[i % hands]);
+        }
+
+        store.sort();
+        withDuplicates.sort();
+
+        Arrays.sort(strengths);
+        long[] sortedCards = new long[hands];
+        for (int i = 0; i < hands; i++) {
+            assertEquals(strengths[hands - 1 - i], store.strength(i), "Strength at " + i);
+            assertEquals(HandStrength.handRanking(store.strength(i)), store.handRanking(i), "Category at " + i);
+            assertEquals(store.strength(i), LookupTableEvaluator.INSTANCE.strength(store.hand(i)), "Cards at " + i);
+            sortedCards[i] = store.hand(i);
+        }
+        Arrays.sort(sortedCards);
+        Arrays.sort(cards);
+        assertArrayEquals(cards, sortedCards, "Same hands after sorting");
+        for (int i = 0; i < 2 * hands; i++) {
+            assertEquals(strengths[hands - 1 - i / 2], withDuplicates.strength(i), "Strength with duplicates at " + i);
+        }
+    }
+
+    @Test
+    void keepHandsInFile() throws IOException {
+        Path file = directory.resolve("hands.pkhc");
+        try (HandColumnStore store = HandColumnStore.create(file, 8)) {
+            store.add("2H 2D 5S 5C 9H");
+            store.add("AS KS QS JS TS");
+            store.add("3C 4D 8H 9S KC");
+            store.sort();
+        }
+        assertEquals(HandColumnStore.HEADER_BYTES + 8L * HandColumnStore.BYTES_PER_HAND, Files.size(file), "File size");
+
+        try (HandColumnStore store = HandColumnStore.open(file)) {
+            assertEquals(3, store.size(), "Size");
+            assertEquals(8, store.capacity(), "Capacity");
+            assertEquals(HandParser.parse("AS KS QS JS TS"), store.hand(0), "Strongest hand");
+            assertEquals(HandRanking.TWO_PAIR, store.handRanking(1), "Second hand");
+            assertEquals(HandRanking.HIGH_CARD, store.handRanking(2), "Weakest hand");
+            store.add("7D 7H 7S 7C AD");
+        }
+        try (HandColumnStore store = HandColumnStore.open(file)) {
+            assertEquals(4, store.size(), "Size after reopening");
+            assertEquals(HandRanking.FOUR_OF_A_KIND, store.handRanking(3), "Hand added after reopening");
+        }
+    }
+
+    @Test
+    void rejectFileSortedWithoutFlush() throws IOException {
+        Path file = directory.resolve("hands.pkhc");
+        HandColumnStore store = HandColumnStore.create(file, 4);
+        store.add("2H 2D 5S 5C 9H");
+        store.add("AS KS QS JS TS");
+        store.flush();
+        store.sort();
+
+        assertThrows(IOException.class, () -> HandColumnStore.open(file), "Store being sorted");
+        store.close();
+        try (HandColumnStore reopened = HandColumnStore.open(file)) {
+            assertEquals(HandParser.parse("AS KS QS JS TS"), reopened.hand(0), "Sorted hands after flushing");
+        }
+    }
+
+    @Test
+    void rejectOtherFiles() throws IOException {
+        Path file = directory.resolve("hands.txt");
+        Files.writeString(file, "AS KS QS JS TS\n");
+        assertThrows(IOException.class, () -> HandColumnStore.open(file), "Text file");
+    }
+}
@@ -0,0 +1,124 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandFileRankerTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("hand-file-ranker");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void rankFileFromStrongestToWeakest() throws IOException {
+        Random random = new Random(5);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long cards = PackedHand.EMPTY;
+            while (PackedHand.size(cards) < 5) {
+                cards = PackedHand.add(cards, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+            }
+            lines.add(PackedHand.toString(cards));
+        }
+        Path input = directory.resolve("hands.txt");
+        Path output = directory.resolve("ranked.txt");
+        Files.write(input, lines, StandardCharsets.US_ASCII);
+
+        // A small budget forces several runs per worker
+        long hands = new HandFileRanker(3, 999, directory).rank(input, output);
+
+        List<String> ranked = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(lines.size(), hands, "Every line should be ranked");
+        assertEquals(lines.stream().sorted().toList(), ranked.stream().sorted().toList(), "Output should hold the input lines");
+        for (int i = 1; i < ranked.size(); i++) {
+            assertTrue(new PokerHand(ranked.get(i - 1)).compareTo(new PokerHand(ranked.get(i))) <= 0,
+                    "Hands should go from the strongest to the weakest at line " + i);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Temporary runs should be removed");
+        }
+    }
+
+    @Test
+    void rankFileWithWindowsLineEndsAndBlankLines() throws IOException {
+        Path input = directory.resolve("hands.txt");
+        Path output = directory.resolve("ranked.txt");
+        Files.writeString(input, "KS 2H 5C JD TD\r\n\r\n2C 3C AC 4C 5C\r\nKH KD KC KS JC", StandardCharsets.US_ASCII);
+
+        long hands = new HandFileRanker(2, 16, directory).rank(input, output);
+
+        assertEquals(3, hands, "Blank lines should be skipped");
+        assertEquals(List.of("2C 3C AC 4C 5C", "KH KD KC KS JC", "KS 2H 5C JD TD"),
+                Files.readAllLines(output, StandardCharsets.US_ASCII), "Hands should be ranked");
+    }
+
+    @Test
+    void rankLinesCrossingMappedWindows() throws IOException {
+        Path input = directory.resolve("hands.txt");
+        Path output = directory.resolve("ranked.txt");
+        List<String> lines = List.of("KS 2H 5C JD TD", "2C 3C AC 4C 5C", "KH KD KC KS JC", "9H 8H 7H 6H 5H",
+                "3D 5D 7D 9D JD", "TH JH QH KH AH", "3S 2H 5C 9D TD");
+        Files.write(input, lines, StandardCharsets.US_ASCII);
+
+        long hands = new HandFileRanker(2, 16, directory, 20).rank(input, output);
+
+        assertEquals(lines.size(), hands, "Every line should be ranked once");
+        assertEquals(List.of("TH JH QH KH AH", "9H 8H 7H 6H 5H", "2C 3C AC 4C 5C", "KH KD KC KS JC",
+                        "3D 5D 7D 9D JD", "KS 2H 5C JD TD", "3S 2H 5C 9D TD"),
+                Files.readAllLines(output, StandardCharsets.US_ASCII), "Hands should be ranked");
+    }
+
+    @Test
+    void rejectInvalidLine() throws IOException {
+        Path input = directory.resolve("hands.txt");
+        Files.writeString(input, "KS 2H 5C JD TD\nKS 2H 5C JD\n", StandardCharsets.US_ASCII);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new HandFileRanker(1, 16, directory).rank(input, directory.resolve("ranked.txt")),
+                "Invalid line should be rejected");
+    }
+
+    @Test
+    void removeRunsWhenOneRangeFails() throws IOException {
+        Path input = directory.resolve("hands.txt");
+        Path runs = Files.createDirectory(directory.resolve("runs"));
+        // The first range fails halfway on an over-long line while the others are still spilling runs
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            text.append(i == 12_500 ? "KS".repeat(200) : "KS 2H 5C JD TD").append('\n');
+        }
+        Files.writeString(input, text, StandardCharsets.US_ASCII);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new HandFileRanker(4, 64, runs).rank(input, directory.resolve("ranked.txt")),
+                "Over-long line should be rejected");
+        try (Stream<Path> files = Files.list(runs)) {
+            assertEquals(0, files.count(), "Temporary runs should be removed");
+        }
+    }
+}
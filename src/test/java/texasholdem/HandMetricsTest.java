@@ -0,0 +1,104 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandMetricsTest {
+
+    @Test
+    void countsEvaluationsByRanking() {
+        HandMetrics metrics = new HandMetrics();
+        HandEvaluator evaluator = metrics.instrument(PokerHandEvaluator.INSTANCE);
+
+        new PokerHand("AC KC QC JC TC", evaluator);
+        new PokerHand("3C 3D JC QC AC", evaluator);
+        new PokerHand("4C 4D JH QS AC", evaluator);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.getEvaluations(), "Expected every evaluation to be counted");
+        assertEquals(1, snapshot.getRankingCount(HandRanking.ROYAL_FLUSH), "Expected one royal flush");
+        assertEquals(2, snapshot.getRankingCount(HandRanking.ONE_PAIR), "Expected two pairs");
+        assertEquals(0, snapshot.getRankingCount(HandRanking.FLUSH), "Expected no flush");
+        assertTrue(snapshot.getEvaluateLatency().getMax() > 0, "Expected the latency to be recorded");
+    }
+
+    @Test
+    void countsParseErrorsAndComparisons() {
+        HandMetrics metrics = new HandMetrics();
+        Comparator<PokerHand> comparator = metrics.instrument(PokerHandComparator.INSTANCE);
+
+        List<PokerHand> hands = new ArrayList<>(List.of(metrics.parse("KS 2H 5C JD TD"), metrics.parse("2C 3C AC 4C 5C")));
+        assertThrows(IllegalArgumentException.class, () -> metrics.parse("KS 2H 5C JD"), "Expected an invalid hand to be rejected");
+        hands.sort(comparator);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.getParses(), "Expected every parse to be counted");
+        assertEquals(1, snapshot.getParseErrors(), "Expected one parse error");
+        assertTrue(snapshot.getComparisons() > 0, "Expected comparisons to be counted");
+        assertTrue(hands.get(0).isCombination(HandRanking.STRAIGHT_FLUSH), "Expected the straight flush to sort first");
+    }
+
+    @Test
+    void reportsCacheHitRate() {
+        HandMetrics metrics = new HandMetrics();
+        CachingHandEvaluator cache = new CachingHandEvaluator(LookupTableEvaluator.INSTANCE, 64);
+        metrics.track(cache);
+
+        new PokerHand("AC AD 9C 9H 5D", cache);
+        new PokerHand("AC AD 9C 9H 5D", cache);
+
+        assertEquals(0.5, metrics.snapshot().getCacheHitRate(), 1e-9, "Expected one hit out of two lookups");
+    }
+
+    @Test
+    void percentilesStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount(), "Expected every value to be counted");
+        assertEquals(100_000, snapshot.getMax(), "Expected the exact maximum");
+        assertEquals(50_000.5, snapshot.getMean(), 1e-9, "Expected the exact mean");
+        assertTrue(snapshot.getP50() >= 50_000 && snapshot.getP50() <= 50_000 * 1.125, "p50 out of range: " + snapshot.getP50());
+        assertTrue(snapshot.getP99() >= 99_000 && snapshot.getP99() <= 100_000, "p99 out of range: " + snapshot.getP99());
+    }
+
+    @Test
+    void bucketsCoverAllValues() {
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE), "Expected the last bucket for the largest value");
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long upper = LatencyHistogram.upperBound(bucket);
+            assertEquals(bucket, LatencyHistogram.bucket(upper), "Upper bound outside of bucket " + bucket);
+            if (bucket + 1 < LatencyHistogram.BUCKETS) {
+                assertEquals(bucket + 1, LatencyHistogram.bucket(upper + 1), "Gap after bucket " + bucket);
+            }
+        }
+    }
+
+    @Test
+    void exposesMetricsOverJmx() throws Exception {
+        HandMetrics metrics = new HandMetrics();
+        metrics.instrument(PokerHandEvaluator.INSTANCE).evaluate(new PokerHand("7S 7H 7C 7D 2H"));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = metrics.registerMBean("test");
+        try {
+            assertEquals(1L, server.getAttribute(name, "Evaluations"), "Expected the evaluation to be visible over JMX");
+            CompositeData latency = (CompositeData) server.getAttribute(name, "EvaluateLatency");
+            assertEquals(1L, latency.get("count"), "Expected the latency to be visible over JMX");
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandParserTest {
+
+    @Test
+    void parseCharSequence() {
+        long hand = HandParser.parse(new StringBuilder("KS 2H 5C JD TD"));
+
+        assertEquals(PackedHand.of(new PokerHand("KS 2H 5C JD TD")), hand, "Parsed hand should hold the same cards");
+    }
+
+    @Test
+    void parseSliceOfCharSequence() {
+        String line = "hand=KS 2H 5C JD TD;";
+
+        assertEquals(HandParser.parse("KS 2H 5C JD TD"), HandParser.parse(line, 5, 19), "Only the slice should be parsed");
+    }
+
+    @Test
+    void parseBytes() {
+        byte[] bytes = "2C 3C AC 4C 5C\nKS 2H 5C JD TD".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(HandParser.parse("2C 3C AC 4C 5C"), HandParser.parse(bytes, 0, 14), "First line should be parsed");
+        assertEquals(HandParser.parse("KS 2H 5C JD TD"), HandParser.parse(bytes, 15, 14), "Second line should be parsed");
+    }
+
+    @Test
+    void parseByteBufferWithoutMovingPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("xxKS 2H 5C JD TD".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+
+        assertEquals(HandParser.parse("KS 2H 5C JD TD"), HandParser.parse(buffer), "Remaining bytes should be parsed");
+        assertEquals(2, buffer.position(), "Buffer position should not change");
+    }
+
+    @Test
+    void parseCard() {
+        assertEquals(PackedCard.of(CardRank.TEN, CardSuit.DIAMONDS), HandParser.parseCard('T', 'D'), "Card should be parsed");
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parseCard('1', 'D'), "Invalid rank should be rejected");
+    }
+
+    @Test
+    void rejectInvalidHands() {
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parse("KS 2H 5C JD"), "Four cards should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parse("KS 2H 5C JD TX"), "Invalid suit should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parse("KS,2H,5C,JD,TD"), "Invalid separator should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parse("KS 2H 5C JD KS"), "Repeated card should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandParser.parse("KS 2H 5C JD T\u00e9"), "Non-ASCII letters should be rejected");
+    }
+}
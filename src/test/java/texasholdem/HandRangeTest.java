@@ -0,0 +1,68 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+
+public class HandRangeTest {
+
+    private static Set<Long> combos(HandRange range) {
+        Set<Long> combos = new HashSet<>();
+        for (int i = 0; i < range.size(); i++) {
+            combos.add(range.combo(i));
+        }
+        return combos;
+    }
+
+    @Test
+    void countsCombosOfEachHandType() {
+        assertEquals(6, HandRange.parse("TT").size(), "Expected 6 combos of a pair");
+        assertEquals(4, HandRange.parse("AKs").size(), "Expected 4 suited combos");
+        assertEquals(12, HandRange.parse("AKo").size(), "Expected 12 offsuit combos");
+        assertEquals(16, HandRange.parse("AK").size(), "Expected 16 combos of any suits");
+        assertEquals(1326, HandRange.parse("22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32").size(),
+                "Expected every hole card combination");
+    }
+
+    @Test
+    void expandsPlusAndDashRanges() {
+        assertEquals(combos(HandRange.parse("TT, JJ, QQ, KK, AA")), combos(HandRange.parse("TT+")), "Pair plus mismatch");
+        assertEquals(combos(HandRange.parse("A2s, A3s, A4s, A5s, A6s, A7s, A8s, A9s, ATs, AJs, AQs, AKs")),
+                combos(HandRange.parse("A2s+")), "Kicker plus mismatch");
+        assertEquals(combos(HandRange.parse("76s, 65s, 54s")), combos(HandRange.parse("76s-54s")), "Connector range mismatch");
+        assertEquals(combos(HandRange.parse("K9o, K8o, K7o, K6o, K5o")), combos(HandRange.parse("K9o-K5o")), "Kicker range mismatch");
+        assertEquals(combos(HandRange.parse("22, 33, 44, 55")), combos(HandRange.parse("55-22")), "Pair range mismatch");
+    }
+
+    @Test
+    void parsesSpecificCombosAndWeights() {
+        HandRange range = HandRange.parse("AsKh, QQ:0.5");
+
+        assertEquals(7, range.size(), "Expected one specific combo and six pairs");
+        assertEquals(cards("AS KH"), range.combo(0), "Expected the specific combo first");
+        assertEquals(1.0, range.weight(0), "Expected the default weight");
+        assertEquals(0.5, range.weight(1), "Expected the given weight");
+        assertEquals(4, range.getTotalWeight(), 1e-9, "Expected the sum of the weights");
+    }
+
+    @Test
+    void removesDeadCards() {
+        HandRange range = HandRange.parse("AA, AKs").without(cards("AS"));
+
+        assertEquals(3 + 3, range.size(), "Expected combos holding the ace of spades to be removed");
+        for (int i = 0; i < range.size(); i++) {
+            assertFalse(PackedHand.contains(range.combo(i), PackedCard.of(CardRank.ACE, CardSuit.SPADES)), "Dead card in range");
+        }
+    }
+
+    @Test
+    void rejectsInvalidNotation() {
+        for (String range : new String[]{"", "AX", "AKx", "TTs", "AsAs", "76s-54o", "76s-K5s", "AK:0", "AK:2", "AK:x", "AKs,,QQ"}) {
+            assertThrows(IllegalArgumentException.class, () -> HandRange.parse(range), "Expected " + range + " to be rejected");
+        }
+    }
+}
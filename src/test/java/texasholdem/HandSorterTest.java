@@ -0,0 +1,54 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandSorterTest {
+
+    @Test
+    void sortSameAsCollectionsSort() {
+        Random random = new Random(3);
+        List<PokerHand> hands = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            long cards = PackedHand.EMPTY;
+            while (PackedHand.size(cards) < 5) {
+                cards = PackedHand.add(cards, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+            }
+            hands.add(new PokerHand(PackedHand.toString(cards)));
+        }
+        List<PokerHand> expected = new ArrayList<>(hands);
+        Collections.sort(expected);
+
+        HandSorter.sort(hands);
+
+        for (int i = 0; i < hands.size(); i++) {
+            assertSame(expected.get(i), hands.get(i), "Hands should be in the same order at " + i);
+        }
+    }
+
+    @Test
+    void rankOrderKeepsEqualStrengthsInInputOrder() {
+        int royalFlush = new PokerHand("AS KS QS JS TS").getStrength();
+        int highCard = new PokerHand("KS 2H 5C JD TD").getStrength();
+        int fullHouse = new PokerHand("KS KH KC 9S 9H").getStrength();
+
+        int[] order = HandSorter.rankOrder(new int[]{highCard, royalFlush, fullHouse, royalFlush, highCard});
+
+        assertArrayEquals(new int[]{1, 3, 2, 0, 4}, order, "Strongest first, ties in input order");
+    }
+
+    @Test
+    void sortEmptyList() {
+        List<PokerHand> hands = new ArrayList<>();
+
+        HandSorter.sort(hands);
+
+        assertTrue(hands.isEmpty(), "Empty list should stay empty");
+    }
+}
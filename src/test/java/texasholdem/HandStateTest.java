@@ -0,0 +1,96 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+
+public class HandStateTest {
+
+    private static int card(String card) {
+        return PackedHand.firstCard(cards(card));
+    }
+
+    @Test
+    void reportsRankingAfterEveryStreet() {
+        HandState state = HandState.of(cards("AS AH"));
+        assertEquals(HandRanking.ONE_PAIR, state.handRanking(), "Expected a pocket pair");
+
+        state.addAll(cards("AD 7C 7H"));
+        assertEquals(HandRanking.FULL_HOUSE, state.handRanking(), "Expected a full house on the flop");
+
+        state.add(card("AC"));
+        assertEquals(HandRanking.FOUR_OF_A_KIND, state.handRanking(), "Expected quads on the turn");
+
+        state.add(card("KS"));
+        assertEquals(HandRanking.FOUR_OF_A_KIND, state.handRanking(), "Expected quads on the river");
+        assertEquals(7, state.size(), "Expected seven cards");
+        assertEquals(4, state.rankCount(CardRank.ACE.ordinal()), "Expected four aces");
+        assertEquals(2, state.suitCount(CardSuit.HEARTS.ordinal()), "Expected two hearts");
+        assertEquals(2, state.suitCount(CardSuit.CLUBS.ordinal()),
+                "Expected two clubs");
+    }
+
+    @Test
+    void partialHandsCompareLikeFullHands() {
+        assertTrue(HandState.of(cards("AS AH")).strength() > HandState.of(cards("KS KH")).strength(), "Expected aces over kings");
+        assertTrue(HandState.of(cards("KS KH")).strength() > HandState.of(cards("AS KD")).strength(), "Expected a pair over high cards");
+        assertEquals(HandRanking.TWO_PAIR, HandState.of(cards("AS AH KD KC")).handRanking(), "Expected two pair from four cards");
+        assertEquals(HandRanking.HIGH_CARD, HandState.of(cards("2S 3S 4S 5S")).handRanking(), "Expected no straight flush from four cards");
+    }
+
+    @Test
+    void matchesSevenCardEvaluatorOnRandomDeals() {
+        SevenCardEvaluator evaluator = new SevenCardEvaluator();
+        SplittableRandom random = new SplittableRandom(20);
+        HandState state = new HandState();
+        for (int deal = 0; deal < 10_000; deal++) {
+            while (state.size() > 0) {
+                state.undo();
+            }
+            while (state.size() < HandState.MAX_CARDS) {
+                int card = PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE));
+                if (!PackedHand.contains(state.cards(), card)) {
+                    state.add(card);
+                    if (state.size() >= SevenCardEvaluator.MIN_CARDS) {
+                        assertEquals(evaluator.strength(state.cards()), state.strength(),
+                                "Strength mismatch for " + PackedHand.toString(state.cards()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void undoAndCopyRestoreEarlierStates() {
+        HandState state = HandState.of(cards("AS KS QS JS"));
+        int fourCards = state.strength();
+        HandState copy = state.copy();
+
+        state.add(card("TS"));
+        assertEquals(HandRanking.ROYAL_FLUSH, state.handRanking(), "Expected a royal flush");
+        assertEquals(HandRanking.HIGH_CARD, copy.handRanking(), "Expected the copy to stay unchanged");
+
+        state.undo();
+        assertEquals(fourCards, state.strength(), "Expected undo to restore the strength");
+        assertEquals(cards("AS KS QS JS"), state.cards(), "Expected undo to restore the cards");
+
+        copy.add(card("2C"));
+        state.copyFrom(copy);
+        assertEquals(cards("AS KS QS JS 2C"), state.cards(), "Expected copyFrom to take the other cards");
+        state.undo();
+        assertEquals(cards("AS KS QS JS"), state.cards(), "Expected copyFrom to take the history too");
+    }
+
+    @Test
+    void rejectsInvalidChanges() {
+        HandState state = HandState.of(cards("AS KS QS JS TS 9S 8S"));
+
+        assertThrows(IllegalArgumentException.class, () -> state.add(card("2C")), "Expected an eighth card to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandState.of(cards("AS")).add(card("AS")), "Expected a repeated card to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new HandState().add(15), "Expected an invalid card to be rejected");
+        assertThrows(IllegalStateException.class, () -> new HandState().undo(), "Expected undo of an empty state to fail");
+    }
+}
@@ -0,0 +1,41 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandStrengthTableTest {
+
+    @Test
+    void indexCoversEveryHandOnce() {
+        assertEquals(0, HandStrengthTable.index(HandParser.parse("2S 3S 4S 5S 6S")), "Lowest cards should have index 0");
+        assertEquals(HandStrengthTable.HANDS - 1, HandStrengthTable.index(HandParser.parse("TC JC QC KC AC")),
+                "Highest cards should have the last index");
+        for (int index = 0; index < HandStrengthTable.HANDS; index += 997) {
+            assertEquals(index, HandStrengthTable.index(HandStrengthTable.hand(index)), "Index should be reversible");
+        }
+    }
+
+    @Test
+    void strengthSameAsEvaluator() {
+        HandStrengthTable table = HandStrengthTable.getInstance();
+        LookupTableEvaluator evaluator = new LookupTableEvaluator();
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long hand = HandStrengthTable.hand(random.nextInt(HandStrengthTable.HANDS));
+
+            assertEquals(evaluator.strength(hand), table.strength(hand), "Strength should match for " + PackedHand.toString(hand));
+        }
+        assertEquals(new PokerHand("AS KS QS JS TS").getStrength(), table.strength(HandParser.parse("AS KS QS JS TS")),
+                "Royal Flush strength should match");
+    }
+
+    @Test
+    void cardsAreShared() {
+        assertSame(Card.of("KS"), Card.of(CardRank.KING, CardSuit.SPADES), "The same card should be one instance");
+        assertSame(Card.of("KS"), new PokerHand("KS 2H 5C JD TD").getCards().get(0), "Parsed cards should be shared");
+        assertEquals(new Card("KS"), Card.of("KS"), "Shared card should equal a new one");
+    }
+}
@@ -0,0 +1,80 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs every PokerHandEvaluatorTest case against the table-driven evaluator as well
+public class LookupTableEvaluatorTest extends PokerHandEvaluatorTest {
+
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "SHDC";
+
+    @Override
+    HandEvaluator createEvaluator() {
+        return new LookupTableEvaluator();
+    }
+
+    @Test
+    void evaluateWheelStraightFlush() {
+        Combination combination = createEvaluator().evaluate(new PokerHand("AS 2S 3S 4S 5S"));
+
+        assertEquals(HandRanking.STRAIGHT_FLUSH, combination.getHandRanking(), "The hand should be a Straight Flush.");
+        assertEquals(5, combination.getWeight() - HandRanking.STRAIGHT_FLUSH.getWeight(), "Five should be the highest card.");
+    }
+
+    @Test
+    void evaluateSameCombinationsAsPokerHandEvaluator() {
+        List<String> deck = new ArrayList<>();
+        for (char suit : SUITS.toCharArray()) {
+            for (char rank : RANKS.toCharArray()) {
+                deck.add("" + rank + suit);
+            }
+        }
+        HandEvaluator lookupTableEvaluator = createEvaluator();
+        int handIndex = 0;
+        for (int a = 0; a < deck.size(); a++)
+            for (int b = a + 1; b < deck.size(); b++)
+                for (int c = b + 1; c < deck.size(); c++)
+                    for (int d = c + 1; d < deck.size(); d++)
+                        for (int e = d + 1; e < deck.size(); e++) {
+                            if (handIndex++ % 101 != 0) {
+                                continue;
+                            }
+                            String cards = String.join(" ", deck.get(a), deck.get(b), deck.get(c), deck.get(d), deck.get(e));
+                            Combination expected = new PokerHand(cards).getCombination();
+                            Combination actual = new PokerHand(cards, lookupTableEvaluator).getCombination();
+
+                            assertEquals(expected.toString(), actual.toString(), "Combinations should match for " + cards);
+                            assertEquals(expected.getStrength(), actual.getStrength(), "Strengths should match for " + cards);
+                        }
+    }
+
+    @Test
+    void evaluateStrengthOfCombination() {
+        LookupTableEvaluator lookupTableEvaluator = new LookupTableEvaluator();
+        PokerHand hand = new PokerHand("4C 4D 9C 9D JC");
+
+        assertEquals(hand.getStrength(), lookupTableEvaluator.strength(hand),
+                "Table strength should match the strength of the combination");
+    }
+
+    @Test
+    void rejectPackedHandsOfInvalidCards() {
+        LookupTableEvaluator lookupTableEvaluator = new LookupTableEvaluator();
+
+        assertThrows(IllegalArgumentException.class, () -> lookupTableEvaluator.strength(1L << 15 | 0b1111L),
+                "Rank bits beyond the Ace should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> lookupTableEvaluator.strength(0b1111L),
+                "Four cards should be rejected");
+    }
+
+    @Test
+    void evaluateFiveCardsOfSameRank() {
+        assertThrows(IllegalStateException.class, () -> new PokerHand("AS AS AS AS AS", createEvaluator()),
+                "Five cards of the same rank should not form a hand");
+    }
+}
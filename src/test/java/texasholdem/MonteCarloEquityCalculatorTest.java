@@ -0,0 +1,91 @@
+package texasholdem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloEquityCalculatorTest {
+
+    private MonteCarloEquityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new MonteCarloEquityCalculator(ForkJoinPool.commonPool(), new SplittableRandom(42));
+    }
+
+    @Test
+    void calculatePocketAcesAgainstPocketKings() {
+        EquityResult result = calculator.calculate(new long[]{cards("AS AH"), cards("KS KH")}, PackedHand.EMPTY, 200_000);
+
+        assertEquals(200_000, result.getTrials(), "Whole trial budget should be used");
+        assertEquals(0.82, result.getEquity(0), 0.01, "Aces should win about 82% against Kings");
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9, "Equities should add up to 1");
+        assertTrue(result.getMargin(0) < 0.005, "Margin should shrink with 200 000 trials");
+        assertTrue(result.getLowerBound(0) < result.getEquity(0) && result.getEquity(0) < result.getUpperBound(0),
+                "Equity should lie inside its confidence interval");
+    }
+
+    @Test
+    void calculateCompleteBoardExactly() {
+        long board = cards("AD KC 7S 2H 2D");
+        EquityResult result = calculator.calculate(new long[]{cards("AS 3C"), cards("KS 4C"), cards("AH 5C")}, board, 1000);
+
+        assertEquals(1, result.getTrials(), "Complete board needs a single showdown");
+        assertEquals(0.5, result.getEquity(0), 1e-9, "Two pairs of Aces should split the pot");
+        assertEquals(1, result.getLosses(1), "Kings should lose");
+        assertEquals(0, result.getMargin(0), 1e-9, "Exact result should have no margin");
+    }
+
+    @Test
+    void calculateStopsWhenConverged() {
+        EquityResult result = calculator.calculate(new long[]{cards("AS KS"), cards("QH QD")}, PackedHand.EMPTY,
+                10_000_000, null, 0.01);
+
+        assertTrue(result.getTrials() < 10_000_000, "Calculation should stop before the trial budget");
+        assertTrue(result.getMargin(1) > 0, "Spot should have some variance");
+        assertTrue(result.getMargin(1) <= 0.01, "Margin should reach the target");
+    }
+
+    @Test
+    void calculateAllTrialsWithoutVariance() {
+        // The seven-deuce can never win, so the margin is 0 from the first round of 2 batches on
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            EquityResult result = new MonteCarloEquityCalculator(pool, new SplittableRandom(42))
+                    .calculate(new long[]{cards("AS AH"), cards("7C 2D")}, cards("AD AC KS"), 100_001);
+
+            assertEquals(100_001, result.getTrials(), "Every trial should run");
+            assertEquals(0.0, result.getMargin(1), 1e-12, "Margin should be 0");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void calculateStopsWhenTimeIsUp() {
+        EquityResult result = calculator.calculate(new long[]{cards("AS KS"), cards("QH QD")}, PackedHand.EMPTY,
+                Long.MAX_VALUE, Duration.ofMillis(50), 0);
+
+        assertTrue(result.getTrials() > 0, "Some trials should run before the time is up");
+    }
+
+    @Test
+    void rejectCardsDealtTwice() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculate(new long[]{cards("AS KS"), cards("AS QD")}, PackedHand.EMPTY, 100),
+                "The same card cannot be held by two players");
+    }
+
+    static long cards(String cards) {
+        long hand = PackedHand.EMPTY;
+        for (int i = 0; i < cards.length(); i += 3) {
+            hand = PackedHand.add(hand, HandParser.parseCard(cards.charAt(i), cards.charAt(i + 1)));
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,122 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OmahaEvaluatorTest {
+
+    private final OmahaEvaluator evaluator = OmahaEvaluator.INSTANCE;
+
+    @Test
+    void flushNeedsTwoHoleCardsOfTheSuit() {
+        long board = cards("2H 7H 9H JH KS");
+
+        assertEquals(HandRanking.FLUSH, evaluator.evaluate(cards("AH 3H QC QD"), board).getHandRanking(),
+                "Two hearts in hand should make the flush");
+        assertEquals(HandRanking.ONE_PAIR, evaluator.evaluate(cards("AH 3C QC QD"), board).getHandRanking(),
+                "One heart in hand cannot make a flush with four on the board");
+    }
+
+    @Test
+    void exactlyTwoHoleCardsAreUsed() {
+        long board = cards("AS KD 7C 4H 2S");
+
+        assertEquals(HandRanking.SET, evaluator.evaluate(cards("AH AD AC 9H"), board).getHandRanking(),
+                "Only two of the three aces in hand can play");
+        assertEquals(HandRanking.HIGH_CARD, evaluator.evaluate(cards("QS JS TS 3D"), board).getHandRanking(),
+                "Three hole cards of a straight cannot play with only two board cards");
+    }
+
+    @Test
+    void fullHouseBeatsFlushOnPairedBoard() {
+        long board = cards("KH KD 8H 5H 2C");
+
+        Combination combination = evaluator.evaluate(cards("AH 3H 8S 8C"), board);
+
+        assertEquals(HandRanking.FULL_HOUSE, combination.getHandRanking(), "Eights full of Kings expected");
+        assertEquals(new PokerHand("8S 8C 8H KH KD").getStrength(), combination.getStrength(),
+                "Best five cards should be the Full House");
+        assertEquals(cards("8S 8C 8H KH KD"), evaluator.bestFive(cards("AH 3H 8S 8C"), board), "Full House cards expected");
+    }
+
+    @Test
+    void strengthsShareTheBoard() {
+        long board = cards("TS JS QD");
+        long[] players = {cards("AS KS 2C 3C"), cards("TD TC 3H 4D"), cards("AD AC 4H 5H")};
+
+        int[] strengths = evaluator.strengths(players, board);
+
+        for (int i = 0; i < players.length; i++) {
+            assertEquals(evaluator.strength(players[i], board), strengths[i], "Strength mismatch for player " + i);
+        }
+        assertEquals(HandRanking.STRAIGHT, HandStrength.handRanking(strengths[0]), "Broadway straight expected");
+        assertEquals(HandRanking.SET, HandStrength.handRanking(strengths[1]), "Set of tens expected");
+    }
+
+    @Test
+    void evaluateSameAsBestOfAllCandidates() {
+        Random random = new Random(22);
+        int flushes = 0;
+        for (int i = 0; i < 50_000; i++) {
+            long holeCards = randomCards(random, PackedHand.EMPTY, OmahaEvaluator.HOLE_CARDS);
+            long board = randomCards(random, holeCards, BOARD_SIZES[i % 3]);
+
+            int expected = bestOfAllCandidates(holeCards, board);
+            if (HandStrength.handRanking(expected) == HandRanking.FLUSH) {
+                flushes++;
+            }
+
+            String deal = PackedHand.toString(holeCards) + " / " + PackedHand.toString(board);
+            assertEquals(expected, evaluator.strength(holeCards, board), "Strength should match for " + deal);
+            assertEquals(expected, LookupTableEvaluator.INSTANCE.strength(evaluator.bestFive(holeCards, board)),
+                    "Best five should match for " + deal);
+        }
+        assertTrue(flushes > 500, "Deals should cover the flush candidates, got " + flushes);
+    }
+
+    @Test
+    void rejectInvalidCardCounts() {
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strength(cards("AS KS QS"), cards("2H 3H 4H")),
+                "Three hole cards should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strength(cards("AS KS QS JS"), cards("2H 3H")),
+                "Two board cards should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strength(cards("AS KS QS JS"), cards("AS 3H 4H")),
+                "Shared cards should be rejected");
+    }
+
+    private static final int[] BOARD_SIZES = {3, 4, 5};
+
+    private static int bestOfAllCandidates(long holeCards, long board) {
+        int best = 0;
+        for (long hole = holeCards; hole != 0; hole = (hole - 1) & holeCards) {
+            if (PackedHand.size(hole) != 2) {
+                continue;
+            }
+            for (long triple = board; triple != 0; triple = (triple - 1) & board) {
+                if (PackedHand.size(triple) == 3) {
+                    best = Math.max(best, LookupTableEvaluator.INSTANCE.strength(hole | triple));
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long cards(String cards) {
+        return MonteCarloEquityCalculatorTest.cards(cards);
+    }
+
+    // Random cards that are not among the excluded ones
+    private static long randomCards(Random random, long excluded, int count) {
+        long hand = PackedHand.EMPTY;
+        while (PackedHand.size(hand) < count) {
+            int card = PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE));
+            if (!PackedHand.contains(excluded, card)) {
+                hand = PackedHand.add(hand, card);
+            }
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,84 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedHandTest {
+
+    @Test
+    void packedCardKeepsRankAndSuit() {
+        for (CardRank rank : CardRank.values()) {
+            for (CardSuit suit : CardSuit.values()) {
+                Card card = new Card(rank, suit);
+                int packed = PackedCard.of(card);
+
+                assertTrue(PackedCard.isValid(packed), "Packed card should be valid: " + card);
+                assertEquals(card, PackedCard.toCard(packed), "Card should survive packing");
+                assertEquals(card.getWeight(), PackedCard.weight(packed), "Weight should match the card rank");
+                assertEquals(packed, PackedCard.fromIndex(PackedCard.index(packed)), "Dense index should be reversible");
+            }
+        }
+    }
+
+    @Test
+    void packedCardsHaveDistinctDenseIndexes() {
+        long seen = 0;
+        for (int index = 0; index < PackedCard.DECK_SIZE; index++) {
+            seen |= 1L << PackedCard.index(PackedCard.fromIndex(index));
+        }
+        assertEquals(PackedCard.DECK_SIZE, Long.bitCount(seen), "Every card should have its own index");
+    }
+
+    @Test
+    void packedHandKeepsCards() {
+        PokerHand pokerHand = new PokerHand("KS 2H 5C JD TD");
+        long hand = PackedHand.of(pokerHand);
+
+        assertEquals(5, PackedHand.size(hand), "Hand should hold 5 cards");
+        assertTrue(PackedHand.isValid(hand), "Hand should only use card bits");
+        assertEquals(pokerHand.getCards(), PackedHand.toCards(hand), "Cards should be decoded from highest to lowest");
+        assertEquals("KS JD TD 5C 2H", PackedHand.toString(hand), "Hand should be formatted like PokerHand input");
+    }
+
+    @Test
+    void packedHandIgnoresCardOrder() {
+        assertEquals(PackedHand.of(new PokerHand("9D KC 6H 8S 5C")), PackedHand.of(new PokerHand("KC 9D 8S 6H 5C")),
+                "Hands with the same cards should have the same mask");
+    }
+
+    @Test
+    void packedHandExposesRankMasks() {
+        long hand = PackedHand.of(List.of(new Card("AS"), new Card("2S"), new Card("AD"), new Card("KH")));
+        int spades = PackedHand.suitRanks(hand, CardSuit.SPADES.ordinal());
+
+        assertEquals(1 << CardRank.ACE.ordinal() | 1 << CardRank.TWO.ordinal(), spades, "Spades should hold Ace and Two");
+        assertEquals(spades | 1 << CardRank.KING.ordinal(), PackedHand.ranks(hand), "Ranks should combine all suits");
+    }
+
+    @Test
+    void addAndRemoveCards() {
+        int aceOfSpades = PackedCard.of(CardRank.ACE, CardSuit.SPADES);
+        long hand = PackedHand.add(PackedHand.EMPTY, aceOfSpades);
+
+        assertTrue(PackedHand.contains(hand, aceOfSpades), "Card should be added");
+        assertEquals(aceOfSpades, PackedHand.firstCard(hand), "First card should be the only card");
+        assertEquals(PackedHand.EMPTY, PackedHand.remove(hand, aceOfSpades), "Card should be removed");
+    }
+
+    @Test
+    void packedStrengthMatchesCardStrength() {
+        LookupTableEvaluator evaluator = new LookupTableEvaluator();
+        for (String cards : List.of("AS 2S 3S 4S 5S", "KH KD KC 9S 9H", "2C 4C 6C 8C TC", "AS AH 9S 8D 7H", "KS 2H 5C JD TD")) {
+            PokerHand pokerHand = new PokerHand(cards);
+            long hand = PackedHand.of(pokerHand);
+            int[] packed = pokerHand.getCards().stream().mapToInt(PackedCard::of).toArray();
+
+            assertEquals(evaluator.strength(pokerHand), evaluator.strength(hand), "Mask strength should match for " + cards);
+            assertEquals(evaluator.strength(pokerHand), evaluator.strength(packed[0], packed[1], packed[2], packed[3], packed[4]),
+                    "Packed card strength should match for " + cards);
+        }
+    }
+}
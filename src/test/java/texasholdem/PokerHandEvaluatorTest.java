@@ -7,12 +7,16 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class PokerHandEvaluatorTest {
 
-    private PokerHandEvaluator pokerHandEvaluator;
+    private HandEvaluator pokerHandEvaluator;
     private PokerHand hand;
 
     @BeforeEach
     void setUp() {
-        pokerHandEvaluator = new PokerHandEvaluator();
+        pokerHandEvaluator = createEvaluator();
+    }
+
+    HandEvaluator createEvaluator() {
+        return new PokerHandEvaluator();
     }
 
     @Test
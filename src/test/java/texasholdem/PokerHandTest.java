@@ -2,6 +2,8 @@ package texasholdem;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static texasholdem.HandRanking.*;
 
@@ -114,6 +116,32 @@ public class PokerHandTest {
         assertTrue(royalFlushHand.compareTo(fourOfAKindHand) < 0, "Royal Flush should be greater than Four of a Kind");
     }
 
+    @Test
+    void compareTwoPairsByLowPairAndKicker() {
+        PokerHand higherLowPair = new PokerHand("KC KD 5C 5D 2C");
+        PokerHand lowerLowPair = new PokerHand("KH KS 4C 4D AC");
+        PokerHand lowerKicker = new PokerHand("KH KS 5H 5S AC");
+
+        assertTrue(higherLowPair.compareTo(lowerLowPair) < 0, "Higher second pair should win over a higher kicker");
+        assertTrue(lowerKicker.compareTo(higherLowPair) < 0, "Equal pairs should be decided by the kicker");
+    }
+
+    @Test
+    void compareFullHousesByTripleFirst() {
+        PokerHand higherTriple = new PokerHand("3S 3H 3C 2D 2H");
+        PokerHand higherPair = new PokerHand("2S 2C 2D AD AH");
+
+        assertTrue(higherTriple.compareTo(higherPair) < 0, "Full House with the higher triple should win");
+    }
+
+    @Test
+    void compareWheelStraightBelowSixHighStraight() {
+        PokerHand wheel = new PokerHand("AC 2C 3D 4C 5S");
+        PokerHand sixHigh = new PokerHand("2D 3D 4H 5C 6S");
+
+        assertTrue(sixHigh.compareTo(wheel) < 0, "Wheel straight should be the lowest straight");
+    }
+
     @Test
     void compareHandWithNull() {
         PokerHand hand = new PokerHand("KH JD 9C 3S 2D");
@@ -215,5 +243,43 @@ public class PokerHandTest {
         assertEquals(ROYAL_FLUSH, royalFlush.getCombination().getHandRanking(), "Expected hand ranking to be a royal flush");
         assertNotEquals(ROYAL_FLUSH, notRoyalFlush.getCombination().getHandRanking(), "Expected hand ranking to not be a royal flush");
     }
-}
 
+    @Test
+    void lazyHandComparesWithoutBuildingCombination() {
+        PokerHand straight = PokerHand.lazy("AC 2C 3D 4C 5S");
+        PokerHand twoPair = PokerHand.lazy("4C 4D 9C 9D JC");
+
+        assertTrue(straight.compareTo(twoPair) < 0, "Expected straight to be stronger than two pair");
+        assertFalse(straight.isEvaluated(), "Comparison should not build the combination");
+        assertFalse(twoPair.isEvaluated(), "Comparison should not build the combination");
+    }
+
+    @Test
+    void lazyHandMatchesEagerHand() {
+        String[] hands = {"KS 2H 5C JD TD", "3C 3D JC QC AC", "4C 4D 9C 9D JC", "KH KD KC JC QC",
+                "AC 2C 3D 4C 5S", "3C 5C 7C 9C KC", "3S 3H 3C 5D 5H", "7S 7H 7C 7D 2H", "AS 2S 3S 4S 5S",
+                "AC KC QC JC TC"};
+        for (String cards : hands) {
+            PokerHand eager = new PokerHand(cards);
+            PokerHand lazy = PokerHand.lazy(cards);
+
+            assertEquals(eager.getStrength(), lazy.getStrength(), "Strength mismatch for " + cards);
+            assertEquals(eager, lazy, "Lazy hand should equal the eager hand for " + cards);
+            assertEquals(eager.getCombination().getHandRanking(), lazy.getCombination().getHandRanking(),
+                    "Hand ranking mismatch for " + cards);
+            assertEquals(ranks(eager.getCombinationCards()), ranks(lazy.getCombinationCards()),
+                    "Combination cards mismatch for " + cards);
+            assertEquals(ranks(eager.getKickerCards()), ranks(lazy.getKickerCards()), "Kicker cards mismatch for " + cards);
+        }
+    }
+
+    private static List<CardRank> ranks(List<Card> cards) {
+        return cards.stream().map(Card::getRank).toList();
+    }
+
+    @Test
+    void lazyHandRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> PokerHand.lazy("AS KS QS JS"), "Expected four cards to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PokerHand.lazy(PackedHand.EMPTY), "Expected an empty hand to be rejected");
+    }
+}
@@ -0,0 +1,168 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+
+public class PreflopEquityTableTest {
+
+    private ForkJoinPool pool;
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pool = new ForkJoinPool(4);
+        directory = Files.createTempDirectory("preflop-table");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pool.shutdown();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    // Stands in for the exact equity, which takes hours for the whole table: the higher rank total wins
+    private static double rankEquity(long hero, long villain) {
+        int heroRanks = rankTotal(hero);
+        int villainRanks = rankTotal(villain);
+        return heroRanks == villainRanks ? 0.5 : heroRanks > villainRanks ? 0.75 : 0.25;
+    }
+
+    private static int rankTotal(long cards) {
+        int first = PackedHand.firstCard(cards);
+        return PackedCard.rank(first) + PackedCard.rank(PackedHand.firstCard(PackedHand.remove(cards, first)));
+    }
+
+    @Test
+    void indexesCoverEveryClassAndCombo() {
+        Set<Integer> classes = new HashSet<>();
+        for (int combo = 0; combo < PreflopEquityTable.COMBOS; combo++) {
+            long cards = PreflopEquityTable.combo(combo);
+            assertEquals(combo, PreflopEquityTable.comboOf(cards), "Combo index mismatch for " + PackedHand.toString(cards));
+            classes.add(PreflopEquityTable.classOf(cards));
+        }
+        assertEquals(PreflopEquityTable.CLASSES, classes.size(), "Expected every class to have combos");
+        assertEquals("AA", PreflopEquityTable.className(PreflopEquityTable.classOf(cards("AS AH"))), "Class name mismatch");
+        assertEquals("AKs", PreflopEquityTable.className(PreflopEquityTable.classOf(cards("AS KS"))), "Class name mismatch");
+        assertEquals("72o", PreflopEquityTable.className(PreflopEquityTable.classOf(cards("7S 2H"))), "Class name mismatch");
+    }
+
+    @Test
+    void matchupKeyIgnoresSuitNames() {
+        assertEquals(PreflopTableGenerator.matchupKey(cards("AS AH"), cards("KS KH")),
+                PreflopTableGenerator.matchupKey(cards("AD AC"), cards("KC KD")), "Expected renamed suits to share a key");
+        assertNotEquals(PreflopTableGenerator.matchupKey(cards("AS AH"), cards("KS KH")),
+                PreflopTableGenerator.matchupKey(cards("AS AH"), cards("KD KC")), "Expected different suit overlaps to differ");
+        assertNotEquals(PreflopTableGenerator.matchupKey(cards("AS AH"), cards("KS KH")),
+                PreflopTableGenerator.matchupKey(cards("KS KH"), cards("AS AH")), "Expected the order of players to matter");
+    }
+
+    @Test
+    void defaultMatchupEquityIsExact() {
+        PreflopTableGenerator generator = new PreflopTableGenerator(pool);
+
+        // One suit in common; the reversed matchup renames the suits, so it comes from the cache
+        double acesOverKings = generator.equity(cards("AS AH"), cards("KS KD"));
+        double kingsUnderAces = generator.equity(cards("KH KC"), cards("AH AD"));
+
+        assertEquals(0.8195, acesOverKings, 0.0001, "Pocket aces against pocket kings");
+        assertEquals(1 - acesOverKings, kingsUnderAces, 1e-12, "Expected the reversed matchup from the cache");
+        assertEquals(ExactEquityCalculator.calculateInCurrentThread(new long[]{cards("KH KC"), cards("AH AD")}, PackedHand.EMPTY)
+                .getEquity(0), kingsUnderAces, 1e-9, "Expected the cached reverse to match the exact equity");
+    }
+
+    @Test
+    void generatedTableIsLoadedAndConsistent() throws IOException {
+        Path file = directory.resolve("preflop.bin");
+        AtomicInteger computed = new AtomicInteger();
+        PreflopTableGenerator generator = new PreflopTableGenerator(pool, (hero, villain) -> {
+            computed.incrementAndGet();
+            return rankEquity(hero, villain);
+        });
+
+        assertEquals(PreflopEquityTable.CLASSES, generator.generate(file, true), "Expected every row to be computed");
+        assertTrue(computed.get() < 1_624_350 / 2, "Expected suit-isomorphic and reversed matchups to be reused");
+        PreflopEquityTable table = PreflopEquityTable.load(file);
+
+        assertTrue(table.hasCombos(), "Expected the combination table");
+        assertEquals(0.75, table.equity(cards("AS AH"), cards("KD KC")), 1e-6, "Combo equity mismatch");
+        assertTrue(Double.isNaN(table.equity(cards("AS AH"), cards("AS KS"))), "Expected no equity for combos sharing a card");
+        int aces = PreflopEquityTable.classOf(cards("AS AH"));
+        int kings = PreflopEquityTable.classOf(cards("KS KH"));
+        assertEquals(0.75, table.equity(aces, kings), 1e-6, "Class equity mismatch");
+        for (int hero = 0; hero < PreflopEquityTable.CLASSES; hero++) {
+            for (int villain = 0; villain < PreflopEquityTable.CLASSES; villain++) {
+                assertEquals(1, table.equity(hero, villain) + table.equity(villain, hero), 1e-6,
+                        "Expected symmetric equities for " + PreflopEquityTable.className(hero) + " vs " + PreflopEquityTable.className(villain));
+            }
+        }
+    }
+
+    @Test
+    void failedRowStopsTheOthers() throws IOException {
+        Path file = directory.resolve("preflop.bin");
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger callsAfterFailure = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        PreflopTableGenerator failing = new PreflopTableGenerator(pool, (hero, villain) -> {
+            if (failed.get()) {
+                callsAfterFailure.incrementAndGet();
+            } else if (calls.incrementAndGet() == 5_000) {
+                failed.set(true);
+                throw new IllegalStateException("Stopped");
+            }
+            return rankEquity(hero, villain);
+        });
+
+        assertThrows(IllegalStateException.class, () -> failing.generate(file, false), "Expected the run to stop");
+        int afterReturn = callsAfterFailure.get();
+
+        // The other started rows stop at their next matchup, a row being thousands of them
+        assertTrue(afterReturn < 100, "Expected the other rows to stop, got " + afterReturn + " more matchups");
+        pool.awaitQuiescence(1, TimeUnit.SECONDS);
+        assertEquals(afterReturn, callsAfterFailure.get(), "Expected no matchup to be computed after the run stopped");
+    }
+
+    @Test
+    void generationResumesWhereItStopped() throws IOException {
+        Path file = directory.resolve("preflop.bin");
+        AtomicInteger budget = new AtomicInteger(20_000);
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        PreflopTableGenerator failing = new PreflopTableGenerator(singleThread, (hero, villain) -> {
+            if (budget.decrementAndGet() < 0) {
+                throw new IllegalStateException("Stopped");
+            }
+            return rankEquity(hero, villain);
+        });
+        assertThrows(IllegalStateException.class, () -> failing.generate(file, false), "Expected the run to stop");
+        singleThread.shutdown();
+        assertThrows(IOException.class, () -> PreflopEquityTable.load(file), "Expected an incomplete table to be rejected");
+
+        int remaining = new PreflopTableGenerator(pool, PreflopEquityTableTest::rankEquity).generate(file, false);
+
+        assertTrue(remaining > 0 && remaining < PreflopEquityTable.CLASSES, "Expected only the missing rows to be computed: " + remaining);
+        PreflopEquityTable table = PreflopEquityTable.load(file);
+        assertFalse(table.hasCombos(), "Expected only the class table");
+        assertEquals(0.75, table.equity(cards("AS AH"), cards("KD KC")), 1e-6, "Expected the class equity");
+        assertThrows(IOException.class, () -> new PreflopTableGenerator(pool, PreflopEquityTableTest::rankEquity).generate(file, true),
+                "Expected a different layout to be rejected");
+    }
+}
@@ -0,0 +1,81 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+
+public class RangeEquityCalculatorTest {
+
+    private ForkJoinPool pool;
+    private RangeEquityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        calculator = new RangeEquityCalculator(pool, new SplittableRandom(18), 20_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void exactOnFlopMatchesExactEquityOfEveryPair() {
+        long board = cards("2C 7D 9H");
+        HandRange hero = HandRange.parse("AKs, 99");
+        HandRange villain = HandRange.parse("QQ, AK");
+        ExactEquityCalculator exactCalculator = new ExactEquityCalculator(pool);
+
+        RangeEquityResult result = calculator.calculate(hero, villain, board);
+
+        assertTrue(result.isExact(), "Expected every turn and river to be enumerated");
+        assertEquals(1176, result.getBoards(), "Expected every turn and river");
+        assertEquals(4 + 3, result.getHeroRange().size(), "Expected the combos with the nine of hearts to be removed");
+        for (int h = 0; h < result.getHeroRange().size(); h++) {
+            for (int v = 0; v < result.getVillainRange().size(); v++) {
+                long heroCards = result.getHeroRange().combo(h);
+                long villainCards = result.getVillainRange().combo(v);
+                if ((heroCards & villainCards) != 0) {
+                    assertTrue(Double.isNaN(result.getEquity(h, v)), "Expected no equity for combos sharing a card");
+                    continue;
+                }
+                double expected = exactCalculator.calculate(new long[]{heroCards, villainCards}, board).getEquity(0);
+                assertEquals(expected, result.getEquity(h, v), 1e-12,
+                        PackedHand.toString(heroCards) + " vs " + PackedHand.toString(villainCards));
+            }
+        }
+    }
+
+    @Test
+    void sampledPreflopIsCloseToKnownEquity() {
+        RangeEquityResult result = calculator.calculate(HandRange.parse("AA"), HandRange.parse("KK"), PackedHand.EMPTY);
+
+        assertFalse(result.isExact(), "Expected preflop boards to be sampled");
+        assertEquals(0.82, result.getEquity(), 0.01, "Expected aces to win about 82% against kings");
+    }
+
+    @Test
+    void weightsAffectRangeEquity() {
+        long board = cards("AS 7D 2C 9H 4S");
+        HandRange strong = HandRange.parse("AKo");
+        RangeEquityResult even = calculator.calculate(strong, HandRange.parse("44, KK"), board);
+        RangeEquityResult weighted = calculator.calculate(strong, HandRange.parse("44:0.1, KK"), board);
+
+        assertTrue(weighted.getEquity() > even.getEquity(), "Expected fewer losing matchups to raise the equity");
+        assertEquals(0.0, weighted.getEquity(0, 0), 1e-12, "Expected top pair to lose to a set on this river");
+    }
+
+    @Test
+    void rejectsRangesThatCannotMeet() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculate(HandRange.parse("AsAh"), HandRange.parse("AsKs"), PackedHand.EMPTY),
+                "Expected ranges sharing every card to be rejected");
+    }
+}
@@ -0,0 +1,114 @@
+package texasholdem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankingServerTest {
+
+    private RankingServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = RankingServer.start(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    private static List<String> randomHands(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> hands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hands.add(PackedHand.toString(HandStrengthTable.hand(random.nextInt(HandStrengthTable.HANDS))));
+        }
+        return hands;
+    }
+
+    private static String expectedAnswer(String hand) {
+        int strength = new PokerHand(hand).getStrength();
+        return strength + " " + HandStrength.handRanking(strength);
+    }
+
+    // Sends every request before reading any answer, so the server has to handle pipelining
+    private List<String> rankPipelined(List<String> requests) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write((String.join("\n", requests) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            List<String> answers = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                answers.add(in.readLine());
+            }
+            return answers;
+        }
+    }
+
+    @Test
+    void answersPipelinedRequestsInOrder() throws IOException {
+        List<String> hands = randomHands(21, 10_000);
+
+        List<String> answers = rankPipelined(hands);
+
+        for (int i = 0; i < hands.size(); i++) {
+            assertEquals(expectedAnswer(hands.get(i)), answers.get(i), "Answer mismatch for " + hands.get(i));
+        }
+        assertTrue(server.getBatches() < hands.size(), "Expected pipelined hands to be rated in batches");
+    }
+
+    @Test
+    void reportsInvalidLinesWithoutClosingConnection() throws IOException {
+        List<String> answers = rankPipelined(List.of("AS KS QS JS TS", "AS KS QS JS", "", "X".repeat(1000), "2C 3C AC 4C 5C\r"));
+
+        assertEquals(expectedAnswer("AS KS QS JS TS"), answers.get(0), "Expected a valid line to be answered");
+        assertTrue(answers.get(1).startsWith("ERROR "), "Expected an error for four cards: " + answers.get(1));
+        assertTrue(answers.get(2).startsWith("ERROR "), "Expected an error for an empty line: " + answers.get(2));
+        assertTrue(answers.get(3).startsWith("ERROR "), "Expected an error for a long line: " + answers.get(3));
+        assertEquals(expectedAnswer("2C 3C AC 4C 5C"), answers.get(4), "Expected CRLF line ends to be accepted");
+    }
+
+    @Test
+    void servesConcurrentClients() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int client = 0; client < 16; client++) {
+                List<String> hands = randomHands(client, 2_000);
+                results.add(clients.submit(() -> {
+                    List<String> answers = rankPipelined(hands);
+                    for (int i = 0; i < hands.size(); i++) {
+                        if (!expectedAnswer(hands.get(i)).equals(answers.get(i))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(), "Expected every client to get its own answers");
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertEquals(16 * 2_000, server.getRequests(), "Expected every hand to be answered");
+    }
+}
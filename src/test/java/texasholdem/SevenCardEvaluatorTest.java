@@ -0,0 +1,95 @@
+package texasholdem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SevenCardEvaluatorTest {
+
+    private SevenCardEvaluator evaluator;
+    private LookupTableEvaluator fiveCardEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new SevenCardEvaluator();
+        fiveCardEvaluator = new LookupTableEvaluator();
+    }
+
+    @Test
+    void evaluateHoleCardsWithBoard() {
+        long holeCards = cards("AS", "AH");
+        long board = cards("AD", "KC", "KD", "7S", "2H");
+
+        Combination combination = evaluator.evaluate(holeCards, board);
+
+        assertEquals(HandRanking.FULL_HOUSE, combination.getHandRanking(), "Aces full of Kings expected");
+        assertEquals(new PokerHand("AS AH AD KC KD").getStrength(), combination.getStrength(),
+                "Best five cards should be the Full House");
+    }
+
+    @Test
+    void evaluateStraightFlushOverFlush() {
+        long cards = cards("9H", "TH", "JH", "QH", "KH", "2H", "AS");
+
+        assertEquals(HandRanking.STRAIGHT_FLUSH, evaluator.evaluate(cards).getHandRanking(), "Straight Flush expected");
+    }
+
+    @Test
+    void evaluateWheelStraightAmongSevenCards() {
+        long cards = cards("AS", "2H", "3D", "4C", "5S", "KH", "KD");
+
+        assertEquals(new PokerHand("AS 2H 3D 4C 5S").getStrength(), evaluator.strength(cards),
+                "Wheel straight should beat a pair of Kings");
+    }
+
+    @Test
+    void bestFivePicksTheCombinationCards() {
+        long cards = cards("7S", "7H", "7D", "7C", "2H", "KD", "QS");
+
+        assertEquals(cards("7S", "7H", "7D", "7C", "KD"), evaluator.bestFive(cards), "Quads with the King kicker expected");
+    }
+
+    @Test
+    void evaluateSameAsBestOfAllFiveCardSubsets() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long cards = randomCards(random, 5 + i % 3);
+            int expected = 0;
+            for (long subset = cards; subset != 0; subset = (subset - 1) & cards) {
+                if (PackedHand.size(subset) == 5) {
+                    expected = Math.max(expected, fiveCardEvaluator.strength(subset));
+                }
+            }
+            assertEquals(expected, evaluator.strength(cards), "Strength should match for " + PackedHand.toString(cards));
+            assertEquals(expected, fiveCardEvaluator.strength(evaluator.bestFive(cards)),
+                    "Best five should match for " + PackedHand.toString(cards));
+        }
+    }
+
+    @Test
+    void rejectInvalidCardCounts() {
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strength(cards("AS", "KS", "QS", "JS")),
+                "Four cards should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> evaluator.strength(cards("AS", "KS"), cards("AS", "QS", "JS")),
+                "Shared cards should be rejected");
+    }
+
+    private static long cards(String... cards) {
+        long hand = PackedHand.EMPTY;
+        for (String card : cards) {
+            hand = PackedHand.add(hand, HandParser.parseCard(card.charAt(0), card.charAt(1)));
+        }
+        return hand;
+    }
+
+    private static long randomCards(Random random, int count) {
+        long hand = PackedHand.EMPTY;
+        while (PackedHand.size(hand) < count) {
+            hand = PackedHand.add(hand, PackedCard.fromIndex(random.nextInt(PackedCard.DECK_SIZE)));
+        }
+        return hand;
+    }
+}
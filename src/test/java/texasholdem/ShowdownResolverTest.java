@@ -0,0 +1,101 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static texasholdem.MonteCarloEquityCalculatorTest.cards;
+import static texasholdem.ShowdownResolver.FOLDED;
+
+public class ShowdownResolverTest {
+
+    private final ShowdownResolver resolver = new ShowdownResolver();
+
+    @Test
+    void strongestHandWinsWholePot() {
+        long board = cards("2C 7D 9H JS KC");
+        long[] holeCards = {cards("AS AH"), cards("KS KH"), cards("3D 4D")};
+
+        long[] payouts = resolver.settle(board, holeCards, new long[]{100, 100, 100}, 0);
+
+        assertArrayEquals(new long[]{0, 300, 0}, payouts, "Expected the set of kings to win");
+    }
+
+    @Test
+    void tiedHandsSplitPotAndOddChipGoesLeftOfButton() {
+        int[] strengths = {500, 500, 100};
+
+        assertArrayEquals(new long[]{50, 49, 0}, resolver.settle(strengths, new long[]{33, 33, 33}, 2),
+                "Expected seat 0 to get the odd chip as the first seat after the button");
+        assertArrayEquals(new long[]{49, 50, 0}, resolver.settle(strengths, new long[]{33, 33, 33}, 0),
+                "Expected seat 1 to get the odd chip as the first seat after the button");
+    }
+
+    @Test
+    void royalFlushOnBoardIsExactTie() {
+        long board = cards("AS KS QS JS TS");
+        long[] holeCards = {cards("2C 3C"), cards("AH AD"), cards("4H 5H")};
+
+        assertArrayEquals(new long[]{100, 100, 100}, resolver.settle(board, holeCards, new long[]{100, 100, 100}, 0),
+                "Expected everyone to play the board");
+    }
+
+    @Test
+    void shortStackWinsOnlyMainPot() {
+        int[] strengths = {900, 500, 100};
+
+        long[] payouts = resolver.settle(strengths, new long[]{50, 100, 100}, 0);
+
+        assertArrayEquals(new long[]{150, 100, 0}, payouts, "Expected the side pot to go to the best of the covering players");
+    }
+
+    @Test
+    void severalSidePots() {
+        int[] strengths = {900, 700, 500, 300};
+
+        long[] payouts = resolver.settle(strengths, new long[]{10, 20, 30, 40}, 0);
+
+        assertArrayEquals(new long[]{40, 30, 20, 10}, payouts, "Expected every pot to go to its strongest eligible player");
+    }
+
+    @Test
+    void foldedChipsStayInPot() {
+        int[] strengths = {FOLDED, 300, 200};
+
+        long[] payouts = resolver.settle(strengths, new long[]{200, 100, 100}, 0);
+
+        assertArrayEquals(new long[]{0, 400, 0}, payouts, "Expected the folded player's chips to go to the winner");
+    }
+
+    @Test
+    void batchMatchesSingleTables() {
+        int[][] strengths = {{900, 500, 100}, {500, 500, 100}, {FOLDED, 300, 200}};
+        long[][] contributions = {{50, 100, 100}, {33, 33, 33}, {200, 100, 100}};
+        int[] buttons = {0, 2, 1};
+
+        long[] payouts = new long[9];
+        resolver.settleAll(3, Arrays.stream(strengths).flatMapToInt(Arrays::stream).toArray(),
+                Arrays.stream(contributions).flatMapToLong(Arrays::stream).toArray(), buttons, payouts);
+
+        for (int table = 0; table < buttons.length; table++) {
+            assertArrayEquals(resolver.settle(strengths[table], contributions[table], buttons[table]),
+                    Arrays.copyOfRange(payouts, table * 3, table * 3 + 3), "Payout mismatch at table " + table);
+        }
+    }
+
+    @Test
+    void rejectsInvalidShowdowns() {
+        assertThrows(IllegalArgumentException.class, () -> resolver.settle(new int[]{FOLDED, FOLDED}, new long[]{10, 10}, 0),
+                "Expected a showdown without players to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> resolver.settle(new int[]{1, 2}, new long[]{10, -1}, 0),
+                "Expected a negative contribution to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> resolver.settle(new int[]{1, 2}, new long[]{10, 10}, 2),
+                "Expected a button outside of the table to be rejected");
+        assertThrows(IllegalArgumentException.class, () -> resolver.settle(new int[11], new long[11], 0),
+                "Expected more than 10 players to be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> resolver.settle(cards("2C 7D 9H JS KC"), new long[]{cards("AS AH"), cards("AS KH")}, new long[]{10, 10}, 0),
+                "Expected a card dealt twice to be rejected");
+    }
+}
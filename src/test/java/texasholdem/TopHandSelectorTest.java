@@ -0,0 +1,171 @@
+package texasholdem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopHandSelectorTest {
+
+    private static long[] randomHands(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] hands = new long[count];
+        for (int i = 0; i < count; i++) {
+            hands[i] = HandStrengthTable.hand(random.nextInt(HandStrengthTable.HANDS));
+        }
+        return hands;
+    }
+
+    // The first k hands after a stable sort, strongest first
+    private static long[] topBySorting(long[] hands, int k, HandRanking minimum) {
+        List<PokerHand> sorted = new ArrayList<>();
+        for (long hand : hands) {
+            sorted.add(PokerHand.lazy(hand));
+        }
+        sorted.removeIf(hand -> hand.getStrength() < HandStrength.lowest(minimum));
+        HandSorter.sort(sorted);
+        return sorted.stream().limit(k).mapToLong(PackedHand::of).toArray();
+    }
+
+    @Test
+    void keepsTheStrongestHandsInStableOrder() {
+        long[] hands = randomHands(23, 50_000);
+        TopHandSelector selector = new TopHandSelector(10);
+
+        for (long hand : hands) {
+            selector.offer(hand);
+        }
+
+        assertArrayEquals(topBySorting(hands, 10, HandRanking.HIGH_CARD), selector.hands(), "Expected the first ten of a stable sort");
+        assertEquals(10, selector.size(), "Expected ten hands kept");
+        assertEquals(50_000, selector.getOffered(), "Expected every hand counted");
+    }
+
+    @Test
+    void equalHandsKeepTheirOffersOrder() {
+        long first = MonteCarloEquityCalculatorTest.cards("AS KS QS JS TS");
+        long second = MonteCarloEquityCalculatorTest.cards("AH KH QH JH TH");
+        long third = MonteCarloEquityCalculatorTest.cards("AD KD QD JD TD");
+        TopHandSelector selector = new TopHandSelector(2);
+
+        assertTrue(selector.offer(first), "Expected the first royal flush kept");
+        assertTrue(selector.offer(second), "Expected the second royal flush kept");
+        assertFalse(selector.offer(third), "Expected an equal hand offered later to be dropped");
+
+        assertArrayEquals(new long[]{first, second}, selector.hands(), "Expected the royal flushes in the order offered");
+    }
+
+    @Test
+    void royalFlushOutranksEveryOtherHand() {
+        long royalFlush = MonteCarloEquityCalculatorTest.cards("AS KS QS JS TS");
+        TopHandSelector selector = new TopHandSelector(1);
+
+        selector.offer(royalFlush);
+        selector.offer(MonteCarloEquityCalculatorTest.cards("9H KH QH JH TH"));
+        selector.offer(MonteCarloEquityCalculatorTest.cards("2H 3D 4S 5C 7D"));
+
+        assertArrayEquals(new long[]{royalFlush}, selector.hands(), "Expected the royal flush kept");
+    }
+
+    @Test
+    void dropsHandsBelowTheMinimum() {
+        TopHandSelector selector = new TopHandSelector(5, HandRanking.STRAIGHT);
+
+        assertFalse(selector.offer(PokerHand.lazy("2H 2D 5S 7C KD")), "Expected a pair to be dropped");
+        assertTrue(selector.offer(PokerHand.lazy("2H 3D 4S 5C AD")), "Expected a straight to be kept");
+        assertTrue(selector.offer(PokerHand.lazy("2H 2D 2S 5C 5D")), "Expected a full house to be kept");
+
+        assertArrayEquals(new int[]{new PokerHand("2H 2D 2S 5C 5D").getStrength(), new PokerHand("2H 3D 4S 5C AD").getStrength()},
+                selector.strengths(), "Expected the full house before the straight");
+        assertEquals(3, selector.getOffered(), "Expected dropped hands counted");
+    }
+
+    @Test
+    void atLeastDoesNotBuildCombinations() {
+        PokerHand pair = PokerHand.lazy("2H 2D 5S 7C KD");
+        PokerHand flush = PokerHand.lazy("2H 4H 5H 7H KH");
+
+        assertFalse(TopHandSelector.atLeast(HandRanking.FLUSH).test(pair), "Expected a pair to be filtered out");
+        assertTrue(TopHandSelector.atLeast(HandRanking.FLUSH).test(flush), "Expected a flush to pass");
+        assertTrue(TopHandSelector.atLeast(HandRanking.HIGH_CARD).test(pair), "Expected every hand to pass the lowest ranking");
+        assertFalse(pair.isEvaluated() || flush.isEvaluated(), "Expected no combination built");
+    }
+
+    @Test
+    void mergeOfConsecutivePartsEqualsOneSelector() {
+        long[] hands = randomHands(5, 30_000);
+        TopHandSelector whole = new TopHandSelector(25, HandRanking.ONE_PAIR);
+        TopHandSelector merged = new TopHandSelector(25, HandRanking.ONE_PAIR);
+        for (int from = 0; from < hands.length; from += 7_000) {
+            TopHandSelector part = new TopHandSelector(25, HandRanking.ONE_PAIR);
+            for (int i = from; i < Math.min(hands.length, from + 7_000); i++) {
+                part.offer(hands[i]);
+            }
+            merged.merge(part);
+        }
+        for (long hand : hands) {
+            whole.offer(hand);
+        }
+
+        assertArrayEquals(whole.hands(), merged.hands(), "Expected merged parts to keep the same hands");
+        assertEquals(whole.getOffered(), merged.getOffered(), "Expected merged parts to count the same hands");
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new TopHandSelector(24, HandRanking.ONE_PAIR)),
+                "Expected selectors of another size to be rejected");
+    }
+
+    @Test
+    void selectInParallelEqualsSorting() {
+        long[] hands = randomHands(11, 400_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TopHandSelector selector = TopHandSelector.select(hands, 100, HandRanking.TWO_PAIR, pool);
+
+            assertArrayEquals(topBySorting(hands, 100, HandRanking.TWO_PAIR), selector.hands(), "Expected the first hundred of a stable sort");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void collectParallelStream() {
+        long[] hands = randomHands(3, 100_000);
+        List<PokerHand> lazyHands = Arrays.stream(hands).mapToObj(PokerHand::lazy).collect(Collectors.toList());
+
+        List<PokerHand> top = lazyHands.parallelStream().collect(TopHandSelector.toTop(10, HandRanking.HIGH_CARD));
+
+        assertArrayEquals(topBySorting(hands, 10, HandRanking.HIGH_CARD), top.stream().mapToLong(PackedHand::of).toArray(),
+                "Expected the first ten of a stable sort");
+        Set<PokerHand> collected = Collections.newSetFromMap(new IdentityHashMap<>());
+        collected.addAll(lazyHands);
+        assertTrue(collected.containsAll(top), "Expected the collected instances to be returned");
+    }
+
+    @Test
+    void keepOfferedInstances() {
+        TopHandSelector selector = new TopHandSelector(2);
+        PokerHand flush = new PokerHand("2H 4H 5H 7H KH");
+        PokerHand pair = PokerHand.lazy("2H 2D 5S 7C KD");
+        selector.offer(flush);
+        selector.offer(MonteCarloEquityCalculatorTest.cards("3C 4D 8H 9S KC"));
+        selector.offer(pair);
+
+        List<PokerHand> top = selector.toPokerHands();
+
+        assertSame(flush, top.get(0), "Expected the offered flush");
+        assertSame(pair, top.get(1), "Expected the offered pair");
+    }
+
+    @Test
+    void rejectNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TopHandSelector(0), "Expected zero hands to be rejected");
+    }
+}
@@ -0,0 +1,413 @@
+package texasholdem;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Rates one hand per lane of an {@link IntVector}, with the same steps as
+ * {@link SevenCardEvaluator#strengthOf(int, int, int, int)} but without a branch: the strength of every category
+ * is computed for all the lanes, from the weakest category to the strongest, and each replaces the previous one
+ * in the lanes that make it. The hands are rated by blocks, one step at a time over the whole block (see Pass).
+ *
+ * The Vector API is an incubator module, so this class is compiled apart from the others with
+ * {@code --add-modules jdk.incubator.vector} and only loaded by {@link ColumnarHandEvaluator} when the module is
+ * present at run time.
+ */
+final class VectorColumnKernel implements ColumnarHandEvaluator.Kernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    // With fewer lanes, as with 128-bit vectors, the kernel is slower than the scalar loop
+    private static final int MIN_LANES = 8;
+    private static final int RANKS = CardRank.values().length;
+    private static final int ACE = CardRank.ACE.ordinal();
+    private static final int RANK_SHIFT = HandStrength.RANK_BITS;
+    private static final int TWO_WEIGHT = CardRank.TWO.getWeight();
+    private static final int ACE_WEIGHT = CardRank.ACE.getWeight();
+    private static final int WHEEL_HIGH_WEIGHT = CardRank.FIVE.getWeight();
+    private static final int FLOAT_MANTISSA_BITS = 23;
+    private static final int FLOAT_EXPONENT_BIAS = 127;
+
+    private static final int HIGH_CARD = HandStrength.of(HandRanking.HIGH_CARD);
+    private static final int ONE_PAIR = HandStrength.of(HandRanking.ONE_PAIR);
+    private static final int TWO_PAIR = HandStrength.of(HandRanking.TWO_PAIR);
+    private static final int SET = HandStrength.of(HandRanking.SET);
+    private static final int STRAIGHT = HandStrength.of(HandRanking.STRAIGHT);
+    private static final int FLUSH = HandStrength.of(HandRanking.FLUSH);
+    private static final int FULL_HOUSE = HandStrength.of(HandRanking.FULL_HOUSE);
+    private static final int FOUR_OF_A_KIND = HandStrength.of(HandRanking.FOUR_OF_A_KIND);
+    private static final int STRAIGHT_FLUSH = HandStrength.of(HandRanking.STRAIGHT_FLUSH);
+    private static final int ROYAL_FLUSH = HandStrength.of(HandRanking.ROYAL_FLUSH);
+
+    // The passes that rate a block, in order; they are called through their base class, so that the compiler keeps
+    // each of them a method of its own (see Pass)
+    private static final Pass[] PASSES = {
+            Pass.GROUPS, Pass.FLUSH_RANKS,
+            Pass.HIGH_CARD_RANKS, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK,
+            Pass.HIGH_CARDS,
+            Pass.PAIR_KICKERS, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.ONE_PAIRS,
+            Pass.PAIR_RANKS, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.TWO_PAIRS,
+            Pass.SET_KICKERS, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.SETS,
+            Pass.STRAIGHTS,
+            Pass.FLUSH_CARD_RANKS, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK, Pass.NEXT_RANK,
+            Pass.FLUSHES,
+            Pass.FULL_HOUSES, Pass.QUADS, Pass.STRAIGHT_FLUSHES};
+
+    /**
+     * @throws UnsupportedOperationException if the vectors of the platform hold fewer than 8 hands.
+     */
+    VectorColumnKernel() {
+        if (SPECIES.length() < MIN_LANES) {
+            throw new UnsupportedOperationException("Vectors of " + SPECIES.length() + " lanes are too narrow.");
+        }
+    }
+
+    @Override
+    public int strengths(int[] spades, int[] hearts, int[] diamonds, int[] clubs, int[] strengths, int from, int to) {
+        // Scratch columns per call keep the kernel free of state
+        Block block = new Block(spades, hearts, diamonds, clubs, strengths);
+        int i = from;
+        while (to - i >= SPECIES.length()) {
+            int length = Math.min(Block.HANDS, (to - i) / SPECIES.length() * SPECIES.length());
+            int valid = block.load(i, length);
+            for (Pass pass : PASSES) {
+                pass.rate(block, i, valid);
+            }
+            i += valid;
+            if (valid < length) {
+                // The caller rates the hands one by one from here and reports the invalid one
+                return i;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * The columns of a call and the rank masks that the categories are made of, for a block of hands small enough
+     * to stay in the L1 cache.
+     */
+    private static final class Block {
+
+        // A multiple of every vector length
+        static final int HANDS = 512;
+
+        final int[] spades;
+        final int[] hearts;
+        final int[] diamonds;
+        final int[] clubs;
+        final int[] strengths;
+
+        final int[] any = new int[HANDS];
+        // The cards per suit, spades and diamonds in the low half, hearts and clubs in the high half
+        final int[] spadesAndHearts = new int[HANDS];
+        final int[] diamondsAndClubs = new int[HANDS];
+        final int[] atLeastTwo = new int[HANDS];
+        final int[] atLeastThree = new int[HANDS];
+        final int[] quads = new int[HANDS];
+        final int[] flushRanks = new int[HANDS];
+        // The ranks left to add to the weights, and the weights added so far, highest first
+        final int[] ranks = new int[HANDS];
+        final int[] weights = new int[HANDS];
+
+        Block(int[] spades, int[] hearts, int[] diamonds, int[] clubs, int[] strengths) {
+            this.spades = spades;
+            this.hearts = hearts;
+            this.diamonds = diamonds;
+            this.clubs = clubs;
+            this.strengths = strengths;
+        }
+
+        /**
+         * Counts the cards of every suit and checks the hands.
+         *
+         * @return The number of hands loaded: {@code length}, or up to the vector holding an invalid hand.
+         */
+        int load(int offset, int length) {
+            for (int j = 0; j < length; j += SPECIES.length()) {
+                IntVector s = IntVector.fromArray(SPECIES, spades, offset + j);
+                IntVector h = IntVector.fromArray(SPECIES, hearts, offset + j);
+                IntVector d = IntVector.fromArray(SPECIES, diamonds, offset + j);
+                IntVector c = IntVector.fromArray(SPECIES, clubs, offset + j);
+                IntVector any = s.or(h).or(d).or(c);
+                IntVector spadesAndHearts = bitCounts(s.or(h.lanewise(VectorOperators.LSHL, Short.SIZE)));
+                IntVector diamondsAndClubs = bitCounts(d.or(c.lanewise(VectorOperators.LSHL, Short.SIZE)));
+                IntVector sizes = spadesAndHearts.add(diamondsAndClubs);
+                IntVector size = sizes.and(0x1F).add(sizes.lanewise(VectorOperators.LSHR, Short.SIZE).and(0x1F));
+                // Negative in the lanes holding too few or too many cards, or ranks beyond the Ace
+                IntVector invalid = size.sub(SevenCardEvaluator.MIN_CARDS)
+                        .or(size.neg().add(SevenCardEvaluator.MAX_CARDS))
+                        .or(any.lanewise(VectorOperators.LSHR, RANKS).neg());
+                if (invalid.lt(0).anyTrue()) {
+                    return j;
+                }
+                any.intoArray(this.any, j);
+                spadesAndHearts.intoArray(this.spadesAndHearts, j);
+                diamondsAndClubs.intoArray(this.diamondsAndClubs, j);
+            }
+            return length;
+        }
+    }
+
+    /**
+     * The steps that rate a block: the groups of equal ranks and the flush, then the categories from the weakest to
+     * the strongest, each blended over the strengths in the lanes that make it. The kickers of a category are added
+     * one {@link #NEXT_RANK} at a time.
+     *
+     * Every step is a short pass over the block: the JIT compiler stops inlining the methods of the Vector API once
+     * a method grows too large, and the vectors of the operations left as calls are then allocated on the heap,
+     * which makes the kernel several times slower than the scalar loop. For the same reason the helpers below are
+     * tiny, and there are no table lookups: the gathers of Java 17 are slow and, on AVX-512, miscompiled when their
+     * index array is reused.
+     */
+    private enum Pass {
+
+        GROUPS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector s = IntVector.fromArray(SPECIES, block.spades, offset + j);
+                    IntVector h = IntVector.fromArray(SPECIES, block.hearts, offset + j);
+                    IntVector d = IntVector.fromArray(SPECIES, block.diamonds, offset + j);
+                    IntVector c = IntVector.fromArray(SPECIES, block.clubs, offset + j);
+                    s.and(h).or(s.and(d)).or(s.and(c)).or(h.and(d)).or(h.and(c)).or(d.and(c)).intoArray(block.atLeastTwo, j);
+                    s.and(h).and(d.or(c)).or(d.and(c).and(s.or(h))).intoArray(block.atLeastThree, j);
+                    s.and(h).and(d).and(c).intoArray(block.quads, j);
+                }
+            }
+        },
+        FLUSH_RANKS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector spadesAndHearts = IntVector.fromArray(SPECIES, block.spadesAndHearts, j);
+                    IntVector diamondsAndClubs = IntVector.fromArray(SPECIES, block.diamondsAndClubs, j);
+                    flushRanks(IntVector.fromArray(SPECIES, block.spades, offset + j), spadesAndHearts)
+                            .or(flushRanks(IntVector.fromArray(SPECIES, block.hearts, offset + j),
+                                    spadesAndHearts.lanewise(VectorOperators.LSHR, Short.SIZE)))
+                            .or(flushRanks(IntVector.fromArray(SPECIES, block.diamonds, offset + j), diamondsAndClubs))
+                            .or(flushRanks(IntVector.fromArray(SPECIES, block.clubs, offset + j),
+                                    diamondsAndClubs.lanewise(VectorOperators.LSHR, Short.SIZE)))
+                            .intoArray(block.flushRanks, j);
+                }
+            }
+        },
+        /** Adds the highest of the ranks left to the weights; garbage for no rank left, which is never blended in. */
+        NEXT_RANK {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector ranks = IntVector.fromArray(SPECIES, block.ranks, j);
+                    IntVector weight = highestWeight(ranks);
+                    without(ranks, weight).intoArray(block.ranks, j);
+                    IntVector.fromArray(SPECIES, block.weights, j).lanewise(VectorOperators.LSHL, RANK_SHIFT).or(weight)
+                            .intoArray(block.weights, j);
+                }
+            }
+        },
+        HIGH_CARD_RANKS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                System.arraycopy(block.any, 0, block.ranks, 0, length);
+                Arrays.fill(block.weights, 0, length, 0);
+            }
+        },
+        HIGH_CARDS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                // Without a pair, the five highest ranks make the hand
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector.fromArray(SPECIES, block.weights, j).or(HIGH_CARD).intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        PAIR_KICKERS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector pair = highestWeight(IntVector.fromArray(SPECIES, block.atLeastTwo, j));
+                    without(IntVector.fromArray(SPECIES, block.any, j), pair).intoArray(block.ranks, j);
+                    pair.intoArray(block.weights, j);
+                }
+            }
+        },
+        ONE_PAIRS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector pairStrength = at(IntVector.fromArray(SPECIES, block.weights, j), 3).or(ONE_PAIR);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(pairStrength, IntVector.fromArray(SPECIES, block.atLeastTwo, j).compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        PAIR_RANKS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                System.arraycopy(block.atLeastTwo, 0, block.ranks, 0, length);
+                Arrays.fill(block.weights, 0, length, 0);
+            }
+        },
+        TWO_PAIRS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector atLeastTwo = IntVector.fromArray(SPECIES, block.atLeastTwo, j);
+                    // The two highest pairs are out of the ranks left
+                    IntVector pairs = atLeastTwo.and(IntVector.fromArray(SPECIES, block.ranks, j).not());
+                    IntVector kicker = highestWeight(IntVector.fromArray(SPECIES, block.any, j).and(pairs.not()));
+                    IntVector twoPairStrength = at(IntVector.fromArray(SPECIES, block.weights, j), 1).or(at(kicker, 2))
+                            .or(TWO_PAIR);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(twoPairStrength, atLeastTwo.and(atLeastTwo.sub(1)).compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        SET_KICKERS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    // Without a full house, a single rank makes the set
+                    IntVector atLeastThree = IntVector.fromArray(SPECIES, block.atLeastThree, j);
+                    IntVector.fromArray(SPECIES, block.any, j).and(atLeastThree.not()).intoArray(block.ranks, j);
+                    highestWeight(atLeastThree).intoArray(block.weights, j);
+                }
+            }
+        },
+        SETS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector setStrength = at(IntVector.fromArray(SPECIES, block.weights, j), 2).or(SET);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(setStrength, IntVector.fromArray(SPECIES, block.atLeastThree, j).compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        STRAIGHTS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector runs = straightRuns(IntVector.fromArray(SPECIES, block.any, j));
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(at(straightHigh(runs), 0).or(STRAIGHT), runs.compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        FLUSH_CARD_RANKS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                System.arraycopy(block.flushRanks, 0, block.ranks, 0, length);
+                Arrays.fill(block.weights, 0, length, 0);
+            }
+        },
+        FLUSHES {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector flushStrength = IntVector.fromArray(SPECIES, block.weights, j).or(FLUSH);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(flushStrength, IntVector.fromArray(SPECIES, block.flushRanks, j).compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        FULL_HOUSES {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector atLeastThree = IntVector.fromArray(SPECIES, block.atLeastThree, j);
+                    IntVector triple = highestWeight(atLeastThree);
+                    IntVector pairs = without(IntVector.fromArray(SPECIES, block.atLeastTwo, j), triple);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(at(triple, 0).or(at(highestWeight(pairs), 1)).or(FULL_HOUSE),
+                                    atLeastThree.compare(VectorOperators.NE, 0).and(pairs.compare(VectorOperators.NE, 0)))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        QUADS {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    // With at most seven cards there is a single quad
+                    IntVector quads = IntVector.fromArray(SPECIES, block.quads, j);
+                    IntVector kickers = IntVector.fromArray(SPECIES, block.any, j).and(quads.not());
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(at(highestWeight(quads), 0).or(at(highestWeight(kickers), 1)).or(FOUR_OF_A_KIND),
+                                    quads.compare(VectorOperators.NE, 0))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        },
+        STRAIGHT_FLUSHES {
+            @Override
+            void rate(Block block, int offset, int length) {
+                for (int j = 0; j < length; j += SPECIES.length()) {
+                    IntVector runs = straightRuns(IntVector.fromArray(SPECIES, block.flushRanks, j));
+                    IntVector high = straightHigh(runs);
+                    VectorMask<Integer> straightFlush = runs.compare(VectorOperators.NE, 0);
+                    IntVector.fromArray(SPECIES, block.strengths, offset + j)
+                            .blend(at(high, 0).or(STRAIGHT_FLUSH), straightFlush)
+                            .blend(ROYAL_FLUSH, straightFlush.and(high.eq(ACE_WEIGHT)))
+                            .intoArray(block.strengths, offset + j);
+                }
+            }
+        };
+
+        /**
+         * Runs the step over the hands of the block.
+         */
+        abstract void rate(Block block, int offset, int length);
+    }
+
+    // With at most seven cards, only one suit can hold five of them: (count + 3) >>> 3 is 1 from five cards on
+    private static IntVector flushRanks(IntVector suit, IntVector counts) {
+        return suit.and(counts.and(0x1F).add(8 - SevenCardEvaluator.MIN_CARDS).lanewise(VectorOperators.LSHR, 3).neg());
+    }
+
+    // The weight of the highest rank of every mask, garbage for an empty mask: as a float, the exponent of a mask
+    // is the index of its highest bit
+    private static IntVector highestWeight(IntVector rankMasks) {
+        return rankMasks.convert(VectorOperators.I2F, 0).reinterpretAsInts()
+                .lanewise(VectorOperators.LSHR, FLOAT_MANTISSA_BITS).sub(FLOAT_EXPONENT_BIAS - TWO_WEIGHT);
+    }
+
+    private static IntVector without(IntVector rankMasks, IntVector weight) {
+        return rankMasks.and(IntVector.broadcast(SPECIES, 1).lanewise(VectorOperators.LSHL, weight.sub(TWO_WEIGHT)).not());
+    }
+
+    private static IntVector at(IntVector weight, int position) {
+        return weight.lanewise(VectorOperators.LSHL, shift(position));
+    }
+
+    // The Ace also counts as the lowest card, below TWO: bit i of the runs starts a straight at weight i + 1
+    private static IntVector straightRuns(IntVector rankMasks) {
+        IntVector ranks = rankMasks.lanewise(VectorOperators.LSHL, 1).or(rankMasks.lanewise(VectorOperators.LSHR, ACE).and(1));
+        return ranks.and(ranks.lanewise(VectorOperators.LSHR, 1)).and(ranks.lanewise(VectorOperators.LSHR, 2))
+                .and(ranks.lanewise(VectorOperators.LSHR, 3)).and(ranks.lanewise(VectorOperators.LSHR, 4));
+    }
+
+    // A run starting at bit 0 is the wheel, which is five high
+    private static IntVector straightHigh(IntVector runs) {
+        return highestWeight(runs).add(WHEEL_HIGH_WEIGHT - TWO_WEIGHT);
+    }
+
+    // Counts the bits of both 16-bit halves of every lane, each into the low bits of its half
+    private static IntVector bitCounts(IntVector x) {
+        x = x.sub(x.lanewise(VectorOperators.LSHR, 1).and(0x55555555));
+        x = x.and(0x33333333).add(x.lanewise(VectorOperators.LSHR, 2).and(0x33333333));
+        x = x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F);
+        return x.add(x.lanewise(VectorOperators.LSHR, Byte.SIZE));
+    }
+
+    private static int shift(int position) {
+        return (HandStrength.MAX_RANKS - 1 - position) * RANK_SHIFT;
+    }
+}